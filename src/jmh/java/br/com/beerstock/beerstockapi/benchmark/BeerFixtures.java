@@ -0,0 +1,40 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+
+public final class BeerFixtures {
+
+    private static final BeerType[] BEER_TYPES = BeerType.values();
+
+    private BeerFixtures() {
+    }
+
+    public static BeerDTO beerDTO(int index) {
+        return BeerDTO.builder()
+            .id(UUID.nameUUIDFromBytes(beerName(index).getBytes(StandardCharsets.UTF_8)))
+            .name(beerName(index))
+            .brand("Brand " + (index % 50))
+            .max(500)
+            .quantity(index % 100)
+            .type(BEER_TYPES[index % BEER_TYPES.length])
+            .build();
+    }
+
+    public static List<BeerDTO> catalog(int size) {
+        return IntStream.range(0, size)
+            .mapToObj(BeerFixtures::beerDTO)
+            .collect(Collectors.toList());
+    }
+
+    public static String beerName(int index) {
+        return String.format("Beer %07d", index);
+    }
+
+}
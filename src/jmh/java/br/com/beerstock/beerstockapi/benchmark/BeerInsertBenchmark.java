@@ -0,0 +1,107 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.beerstock.beerstockapi.BeerstockapiApplication;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.identity.TimeOrderedUuid;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BeerInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String INSERT_BEER = "insert into beer"
+        + " (id, name, brand, max, quantity, reserved, type, fill_ratio, version)"
+        + " values (?, ?, ?, ?, ?, 0, ?, ?, 0)";
+
+    @Param({ "random", "timeOrdered" })
+    private String idStrategy;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private String databaseFile;
+
+    private int inserted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.databaseFile = "./target/insert-benchmark-" + UUID.randomUUID();
+        this.applicationContext = new SpringApplicationBuilder(BeerstockapiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.cache.type=none")
+            .run("--spring.datasource.url=jdbc:h2:file:" + this.databaseFile);
+        this.jdbcTemplate = this.applicationContext.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.jdbcTemplate.execute("checkpoint sync");
+        long rows = this.jdbcTemplate.queryForObject("select count(*) from beer", Long.class);
+        long fileSize = new File(this.databaseFile + ".mv.db").length();
+        System.out.printf("%n[idStrategy=%s] rows=%d fileSize=%d bytes (%.1f bytes/row)%n",
+            this.idStrategy, rows, fileSize, (double) fileSize / rows);
+        this.jdbcTemplate.execute("drop all objects delete files");
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int index = 0; index < BATCH_SIZE; index++) {
+            String name = BeerFixtures.beerName(this.inserted++);
+            rows.add(new Object[] {
+                toBytes(nextId()),
+                name,
+                "Brand " + (this.inserted % 50),
+                500,
+                this.inserted % 100,
+                BeerType.values()[this.inserted % BeerType.values().length].name(),
+                Beer.fillRatioOf(this.inserted % 100, 500)
+            });
+        }
+        return this.jdbcTemplate.batchUpdate(INSERT_BEER, rows);
+    }
+
+    private UUID nextId() {
+        return "random".equals(this.idStrategy) ? UUID.randomUUID() : TimeOrderedUuid.next();
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+}
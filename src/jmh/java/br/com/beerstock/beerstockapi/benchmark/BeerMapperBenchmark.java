@@ -0,0 +1,50 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BeerMapperBenchmark {
+
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    private BeerDTO beerDTO;
+
+    private Beer beer;
+
+    @Setup
+    public void setUp() {
+        this.beerDTO = BeerFixtures.beerDTO(1);
+        this.beer = this.beerMapper.toBeer(this.beerDTO);
+    }
+
+    @Benchmark
+    public Beer toBeer() {
+        return this.beerMapper.toBeer(this.beerDTO);
+    }
+
+    @Benchmark
+    public BeerDTO toBeerDTO() {
+        return this.beerMapper.toBeerDTO(this.beer);
+    }
+
+}
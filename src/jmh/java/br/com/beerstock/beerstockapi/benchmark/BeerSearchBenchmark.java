@@ -0,0 +1,150 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.beerstock.beerstockapi.BeerstockapiApplication;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.services.BeerService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BeerSearchBenchmark {
+
+    private static final int SEED_CHUNK_SIZE = 10000;
+    private static final String INSERT_BEER = "insert into beer"
+        + " (id, name, brand, max, quantity, reserved, type, fill_ratio, version)"
+        + " values (?, ?, ?, ?, ?, 0, ?, ?, 0)";
+    private static final Map<String, String> EXPLAINED_QUERIES = Map.of(
+        "searchByType", "select * from beer where type = 'IPA' order by name, id limit 21",
+        "searchByBrand", "select * from beer where brand = 'Brand 7' order by name, id limit 21",
+        "searchByQuantityRange",
+        "select * from beer where quantity between 10 and 11 order by name, id limit 21",
+        "searchByTypeQuantityAndMax", "select * from beer where type = 'IPA'"
+            + " and quantity between 10 and 11 and max >= 100 order by name, id limit 21",
+        "searchLowStock",
+        "select * from beer where fill_ratio < 0.01 order by fill_ratio, id limit 21");
+
+    @Param({ "10000", "100000", "1000000" })
+    private int catalogSize;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private BeerService beerService;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkParams benchmarkParams) {
+        this.applicationContext = new SpringApplicationBuilder(BeerstockapiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.cache.type=none",
+                "spring.datasource.url=jdbc:h2:mem:search-benchmark-" + UUID.randomUUID())
+            .run();
+        this.beerService = this.applicationContext.getBean(BeerService.class);
+        JdbcTemplate jdbcTemplate = this.applicationContext.getBean(JdbcTemplate.class);
+        seedCatalog(jdbcTemplate);
+        jdbcTemplate.execute("analyze");
+        String benchmark = benchmarkParams.getBenchmark();
+        String query = EXPLAINED_QUERIES.get(benchmark.substring(benchmark.lastIndexOf('.') + 1));
+        System.out.printf("%n[catalogSize=%d] %s%n%s%n", this.catalogSize, query,
+            jdbcTemplate.queryForObject("explain " + query, String.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.applicationContext.close();
+    }
+
+    private void seedCatalog(JdbcTemplate jdbcTemplate) {
+        for (int offset = 0; offset < this.catalogSize; offset += SEED_CHUNK_SIZE) {
+            List<Object[]> rows = new ArrayList<>(SEED_CHUNK_SIZE);
+            for (int index = offset; index < Math.min(offset + SEED_CHUNK_SIZE, this.catalogSize); index++) {
+                BeerDTO beerDTO = BeerFixtures.beerDTO(index);
+                rows.add(new Object[] {
+                    toBytes(beerDTO.getId()),
+                    beerDTO.getName(),
+                    beerDTO.getBrand(),
+                    beerDTO.getMax(),
+                    beerDTO.getQuantity(),
+                    beerDTO.getType().name(),
+                    Beer.fillRatioOf(beerDTO.getQuantity(), beerDTO.getMax())
+                });
+            }
+            jdbcTemplate.batchUpdate(INSERT_BEER, rows);
+        }
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    @Benchmark
+    public BeerPageDTO searchByType() throws Exception {
+        return search(BeerFilterDTO.builder().type(BeerType.IPA).build());
+    }
+
+    @Benchmark
+    public BeerPageDTO searchByBrand() throws Exception {
+        return search(BeerFilterDTO.builder().brand("Brand 7").build());
+    }
+
+    @Benchmark
+    public BeerPageDTO searchByQuantityRange() throws Exception {
+        return search(BeerFilterDTO.builder().quantityFrom(10).quantityTo(11).build());
+    }
+
+    @Benchmark
+    public BeerPageDTO searchByTypeQuantityAndMax() throws Exception {
+        return search(BeerFilterDTO.builder()
+            .type(BeerType.IPA)
+            .quantityFrom(10)
+            .quantityTo(11)
+            .maxFrom(100)
+            .build());
+    }
+
+    @Benchmark
+    public BeerPageDTO searchLowStock() throws Exception {
+        return this.beerService.findLowStock(
+            1, new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE);
+    }
+
+    private BeerPageDTO search(BeerFilterDTO filter) throws Exception {
+        return this.beerService.findAll(filter, null, BeerService.DEFAULT_PAGE_SIZE);
+    }
+
+}
@@ -0,0 +1,66 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BeerSerializationBenchmark {
+
+    @Param({ "20", "100", "10000" })
+    private int catalogSize;
+
+    private ObjectMapper objectMapper;
+
+    private List<BeerDTO> catalog;
+
+    private BeerPageDTO beerPage;
+
+    private byte[] serializedCatalog;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.catalog = BeerFixtures.catalog(this.catalogSize);
+        this.beerPage = new BeerPageDTO(this.catalog, "next", null);
+        this.serializedCatalog = this.objectMapper.writeValueAsBytes(this.catalog);
+    }
+
+    @Benchmark
+    public byte[] serializeCatalog() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.catalog);
+    }
+
+    @Benchmark
+    public byte[] serializeBeerPage() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.beerPage);
+    }
+
+    @Benchmark
+    public BeerDTO[] deserializeCatalog() throws java.io.IOException {
+        return this.objectMapper.readValue(this.serializedCatalog, BeerDTO[].class);
+    }
+
+}
@@ -0,0 +1,112 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.beerstock.beerstockapi.BeerstockapiApplication;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.services.BeerService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BeerServiceBenchmark {
+
+    private static final int SEED_CHUNK_SIZE = 1000;
+
+    @Param({ "1000", "10000", "100000" })
+    private int catalogSize;
+
+    @Param({ "caffeine", "none" })
+    private String cacheType;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private BeerService beerService;
+
+    private List<UUID> beerIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.applicationContext = new SpringApplicationBuilder(BeerstockapiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.cache.type=" + this.cacheType,
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID())
+            .run();
+        this.beerService = this.applicationContext.getBean(BeerService.class);
+        this.beerIds = seedCatalog(
+            this.applicationContext.getBean(BeerRepository.class),
+            this.applicationContext.getBean(TransactionTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.applicationContext.close();
+    }
+
+    private List<UUID> seedCatalog(BeerRepository beerRepository, TransactionTemplate transactionTemplate) {
+        BeerMapper beerMapper = BeerMapper.INSTANCE;
+        List<BeerDTO> catalog = BeerFixtures.catalog(this.catalogSize);
+        for (int offset = 0; offset < this.catalogSize; offset += SEED_CHUNK_SIZE) {
+            List<Beer> chunk = catalog
+                .subList(offset, Math.min(offset + SEED_CHUNK_SIZE, this.catalogSize))
+                .stream()
+                .map(beerMapper::toBeer)
+                .peek(beer -> beer.setId(null))
+                .collect(Collectors.toList());
+            transactionTemplate.executeWithoutResult(status -> beerRepository.saveAll(chunk));
+        }
+        return beerRepository.findAll().stream()
+            .map(Beer::getId)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public BeerDTO findByName() throws Exception {
+        int index = ThreadLocalRandom.current().nextInt(this.catalogSize);
+        return this.beerService.findByName(BeerFixtures.beerName(index));
+    }
+
+    @Benchmark
+    public BeerPageDTO findAllFirstPage() throws Exception {
+        return this.beerService.findAll(new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public BeerDTO incrementThenDecrement() throws Exception {
+        UUID id = this.beerIds.get(ThreadLocalRandom.current().nextInt(this.beerIds.size()));
+        this.beerService.increment(id, 1);
+        return this.beerService.decrement(id, 1);
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.QuantityDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BeerValidationBenchmark {
+
+    private Validator validator;
+
+    private BeerDTO validBeerDTO;
+
+    private BeerDTO invalidBeerDTO;
+
+    private QuantityDTO quantityDTO;
+
+    @Setup
+    public void setUp() {
+        this.validator = Validation.buildDefaultValidatorFactory().getValidator();
+        this.validBeerDTO = BeerFixtures.beerDTO(1);
+        this.invalidBeerDTO = BeerFixtures.beerDTO(2);
+        this.invalidBeerDTO.setBrand(null);
+        this.invalidBeerDTO.setMax(1000);
+        this.quantityDTO = QuantityDTO.builder().quantity(10).build();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BeerDTO>> validBeerDTO() {
+        return this.validator.validate(this.validBeerDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BeerDTO>> invalidBeerDTO() {
+        return this.validator.validate(this.invalidBeerDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<QuantityDTO>> quantityDTO() {
+        return this.validator.validate(this.quantityDTO);
+    }
+
+}
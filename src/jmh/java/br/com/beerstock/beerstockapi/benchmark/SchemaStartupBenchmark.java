@@ -0,0 +1,74 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.beerstock.beerstockapi.BeerstockapiApplication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class SchemaStartupBenchmark {
+
+    @Param({ "update", "validate" })
+    private String ddlAuto;
+
+    private String databaseUrl;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.databaseUrl = "jdbc:h2:file:./target/startup-benchmark-" + UUID.randomUUID();
+        start().close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try (ConfigurableApplicationContext applicationContext = start()) {
+            applicationContext.getBean(JdbcTemplate.class).execute("drop all objects delete files");
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeApplicationContext() {
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext startApplicationContext() {
+        this.applicationContext = start();
+        return this.applicationContext;
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BeerstockapiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=" + this.databaseUrl,
+                "--spring.jpa.hibernate.ddl-auto=" + this.ddlAuto,
+                "--spring.flyway.enabled=" + "validate".equals(this.ddlAuto));
+    }
+
+}
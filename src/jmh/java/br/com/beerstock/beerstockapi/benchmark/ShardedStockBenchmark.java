@@ -0,0 +1,76 @@
+package br.com.beerstock.beerstockapi.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.beerstock.beerstockapi.BeerstockapiApplication;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.domain.services.BeerService;
+import br.com.beerstock.beerstockapi.domain.services.StockShardService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ShardedStockBenchmark {
+
+    private static final int HOT_BEER_STOCK = 50_000_000;
+
+    @Param({ "0", "1", "8" })
+    private int shards;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private BeerService beerService;
+
+    private UUID hotBeerId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.applicationContext = new SpringApplicationBuilder(BeerstockapiApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID())
+            .run();
+        this.beerService = this.applicationContext.getBean(BeerService.class);
+        BeerDTO hotBeerDTO = BeerFixtures.catalog(1).get(0);
+        hotBeerDTO.setId(null);
+        hotBeerDTO.setMax(HOT_BEER_STOCK);
+        hotBeerDTO.setQuantity(HOT_BEER_STOCK);
+        this.hotBeerId = this.beerService.createBeer(hotBeerDTO).getId();
+        if (this.shards > 0) {
+            this.applicationContext.getBean(StockShardService.class).enable(this.hotBeerId, this.shards);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.applicationContext.close();
+    }
+
+    @Benchmark
+    public BeerDTO decrementHotBeer() throws Exception {
+        return this.beerService.decrement(this.hotBeerId, 1);
+    }
+
+}
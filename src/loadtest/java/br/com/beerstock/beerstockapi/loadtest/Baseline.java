@@ -0,0 +1,72 @@
+package br.com.beerstock.beerstockapi.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+
+public class Baseline {
+
+    private static final double[] PERCENTILES = { 50.0, 99.0, 99.9 };
+    private static final String[] PERCENTILE_KEYS = { "p50", "p99", "p999" };
+
+    private final Properties limits;
+
+    private Baseline(Properties limits) {
+        this.limits = limits;
+    }
+
+    public static Baseline load(String location) throws IOException {
+        Properties limits = new Properties();
+        Path path = Path.of(location);
+        if (Files.exists(path)) {
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                limits.load(inputStream);
+            }
+            return new Baseline(limits);
+        }
+        try (InputStream inputStream = Baseline.class.getClassLoader().getResourceAsStream(location)) {
+            if (inputStream == null) {
+                throw new IOException(String.format("Baseline %s not found.", location));
+            }
+            limits.load(inputStream);
+        }
+        return new Baseline(limits);
+    }
+
+    public List<String> verify(Collection<OperationStats> stats, double elapsedSeconds) {
+        List<String> violations = new ArrayList<>();
+        long total = 0;
+        long errors = 0;
+        for (OperationStats operationStats : stats) {
+            total += operationStats.count();
+            errors += operationStats.errors();
+            for (int index = 0; index < PERCENTILES.length; index++) {
+                String key = operationStats.getOperation() + "." + PERCENTILE_KEYS[index];
+                String limit = this.limits.getProperty(key);
+                double observed = operationStats.percentileMillis(PERCENTILES[index]);
+                if (limit != null && observed > Double.parseDouble(limit)) {
+                    violations.add(String.format("%s = %.2f ms exceeds %s ms", key, observed, limit));
+                }
+            }
+        }
+        String minThroughput = this.limits.getProperty("total.throughput.min");
+        double throughput = total / elapsedSeconds;
+        if (minThroughput != null && throughput < Double.parseDouble(minThroughput)) {
+            violations.add(String.format(
+                "total.throughput = %.1f req/s is below %s req/s", throughput, minThroughput));
+        }
+        String maxErrorRate = this.limits.getProperty("error.rate.max");
+        double errorRate = total == 0 ? 0 : (double) errors / total;
+        if (maxErrorRate != null && errorRate > Double.parseDouble(maxErrorRate)) {
+            violations.add(String.format(
+                "error.rate = %.4f exceeds %s", errorRate, maxErrorRate));
+        }
+        return violations;
+    }
+
+}
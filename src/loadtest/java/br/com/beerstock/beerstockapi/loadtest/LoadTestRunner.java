@@ -0,0 +1,328 @@
+package br.com.beerstock.beerstockapi.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import lombok.extern.slf4j.Slf4j;
+
+import br.com.beerstock.beerstockapi.BeerstockapiApplication;
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.QuantityDTO;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.loadtest.OperationStats.Outcome;
+
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String BEER_API_PATH = "/api/v1/beers";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String REACTIVE_STACK = "reactive";
+
+    private final LoadTestSettings settings;
+    private final String stack;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final List<BeerDTO> catalog = new ArrayList<>();
+    private final Operation[] weightedOperations;
+    private double elapsedSeconds;
+
+    public LoadTestRunner(LoadTestSettings settings, String stack, String baseUrl) {
+        this.settings = settings;
+        this.stack = stack;
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(settings.getConcurrency()))
+            .build();
+        List<Operation> operations = new ArrayList<>();
+        settings.getMix().forEach((operation, weight) -> {
+            this.stats.put(operation, new OperationStats(operation));
+            for (int index = 0; index < weight; index++) {
+                operations.add(operation);
+            }
+        });
+        this.weightedOperations = operations.toArray(new Operation[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Map<String, LoadTestRunner> runners = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+        if (settings.getBaseUrl() != null) {
+            LoadTestRunner runner = new LoadTestRunner(settings, "remote", settings.getBaseUrl());
+            violations.addAll(runner.run());
+            runners.put("remote", runner);
+        } else {
+            for (String stack : settings.getStacks()) {
+                ConfigurableApplicationContext applicationContext = startApplication(stack, args);
+                try {
+                    String baseUrl = "http://localhost:"
+                        + applicationContext.getEnvironment().getProperty("local.server.port");
+                    LoadTestRunner runner = new LoadTestRunner(settings, stack, baseUrl);
+                    violations.addAll(runner.run());
+                    runners.put(stack, runner);
+                } finally {
+                    applicationContext.close();
+                }
+            }
+        }
+        if (runners.size() > 1) {
+            compare(runners);
+        }
+        System.exit(violations.isEmpty() || !settings.isFailOnBaseline() ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startApplication(String stack, String[] args) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        String database = "loadtest-" + stack;
+        SpringApplicationBuilder applicationBuilder =
+            new SpringApplicationBuilder(BeerstockapiApplication.class)
+                .properties(
+                    "server.port=0",
+                    "spring.datasource.url=jdbc:h2:mem:" + database
+                        + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                    "spring.r2dbc.url=r2dbc:h2:mem:///" + database
+                        + "?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        if (REACTIVE_STACK.equals(stack)) {
+            applicationBuilder
+                .profiles(ReactiveConfiguration.REACTIVE_PROFILE)
+                .web(WebApplicationType.REACTIVE);
+        }
+        return applicationBuilder.run(args);
+    }
+
+    private static void compare(Map<String, LoadTestRunner> runners) {
+        PrintStream out = System.out;
+        out.printf("%n%-14s", "p50/p99 ms");
+        runners.keySet().forEach(stack -> out.printf(" %22s", stack));
+        out.println();
+        for (Operation operation : Operation.values()) {
+            if (runners.values().stream().noneMatch(runner -> runner.stats.containsKey(operation))) {
+                continue;
+            }
+            out.printf("%-14s", operation);
+            runners.values().forEach(runner -> {
+                OperationStats operationStats = runner.stats.get(operation);
+                out.printf(" %10.2f / %9.2f",
+                    operationStats.percentileMillis(50.0), operationStats.percentileMillis(99.0));
+            });
+            out.println();
+        }
+        out.printf("%-14s", "TOTAL req/s");
+        runners.values().forEach(runner -> out.printf(" %22.1f", runner.throughput()));
+        out.printf("%n%n");
+    }
+
+    public List<String> run() throws Exception {
+        seedCatalog();
+        log.info("[{}] Warming up for {}", this.stack, this.settings.getWarmup());
+        drive(this.settings.getWarmup());
+        this.stats.values().forEach(OperationStats::reset);
+        log.info("[{}] Measuring for {} with {} clients", this.stack, this.settings.getDuration(),
+            this.settings.getConcurrency());
+        long startNanos = System.nanoTime();
+        drive(this.settings.getDuration());
+        this.elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        report();
+        List<String> violations = Baseline.load(this.settings.getBaseline())
+            .verify(this.stats.values(), this.elapsedSeconds);
+        violations.forEach(violation -> log.error("[{}] Baseline exceeded: {}", this.stack, violation));
+        return violations;
+    }
+
+    private double throughput() {
+        return this.stats.values().stream().mapToLong(OperationStats::count).sum()
+            / this.elapsedSeconds;
+    }
+
+    private void seedCatalog() throws Exception {
+        log.info("[{}] Seeding {} beers", this.stack, this.settings.getCatalogSize());
+        ExecutorService executorService = Executors.newFixedThreadPool(this.settings.getConcurrency());
+        try {
+            List<Future<BeerDTO>> createdBeers = new ArrayList<>();
+            for (int index = 0; index < this.settings.getCatalogSize(); index++) {
+                String name = String.format("Load test beer %07d", index);
+                createdBeers.add(executorService.submit(() -> createBeer(name)));
+            }
+            for (Future<BeerDTO> createdBeer : createdBeers) {
+                this.catalog.add(createdBeer.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private void drive(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executorService = Executors.newFixedThreadPool(this.settings.getConcurrency());
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < this.settings.getConcurrency(); worker++) {
+                workers.add(executorService.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        execute(nextOperation(), nextBeer());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Operation nextOperation() {
+        return this.weightedOperations[
+            ThreadLocalRandom.current().nextInt(this.weightedOperations.length)];
+    }
+
+    private BeerDTO nextBeer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int hotKeys = Math.min(this.settings.getHotKeys(), this.catalog.size());
+        if (random.nextDouble() < this.settings.getHotKeyRatio()) {
+            return this.catalog.get(random.nextInt(hotKeys));
+        }
+        return this.catalog.get(random.nextInt(this.catalog.size()));
+    }
+
+    private void execute(Operation operation, BeerDTO beer) {
+        long startNanos = System.nanoTime();
+        Outcome outcome;
+        try {
+            outcome = send(operation, beer);
+        } catch (IOException e) {
+            outcome = Outcome.ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        this.stats.get(operation).record(System.nanoTime() - startNanos, outcome);
+    }
+
+    private Outcome send(Operation operation, BeerDTO beer) throws IOException, InterruptedException {
+        switch (operation) {
+            case FIND_BY_NAME:
+                return outcomeOf(get(BEER_API_PATH + "/" + encode(beer.getName())));
+            case FIND_ALL:
+                return outcomeOf(get(BEER_API_PATH + "?size=20"));
+            case INCREMENT:
+                return outcomeOf(patch(BEER_API_PATH + "/increment/" + beer.getId()));
+            case DECREMENT:
+                return outcomeOf(patch(BEER_API_PATH + "/decrement/" + beer.getId()));
+            case CREATE_DELETE:
+                BeerDTO createdBeer = createBeer("Load test beer " + UUID.randomUUID());
+                return outcomeOf(this.httpClient.send(
+                    request(BEER_API_PATH + "/" + createdBeer.getId()).DELETE().build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode());
+            default:
+                throw new IllegalArgumentException(operation.toString());
+        }
+    }
+
+    private static Outcome outcomeOf(int statusCode) {
+        if (statusCode < 300) {
+            return Outcome.SUCCESS;
+        }
+        return statusCode == 400 ? Outcome.REJECTED : Outcome.ERROR;
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        return this.httpClient.send(request(path).GET().build(),
+            HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int patch(String path) throws IOException, InterruptedException {
+        String body = OBJECT_MAPPER.writeValueAsString(new QuantityDTO(1));
+        return this.httpClient.send(request(path)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private BeerDTO createBeer(String name) throws IOException, InterruptedException {
+        BeerDTO beerDTO = BeerDTO.builder()
+            .name(name)
+            .brand("Load test")
+            .max(500)
+            .quantity(100)
+            .type(BeerType.LAGER)
+            .build();
+        HttpResponse<String> response = this.httpClient.send(request(BEER_API_PATH)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(beerDTO)))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            throw new IOException("Could not create beer: " + response.statusCode());
+        }
+        return OBJECT_MAPPER.readValue(response.body(), BeerDTO.class);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+            .timeout(Duration.ofSeconds(30));
+    }
+
+    private static String encode(String name) {
+        return name.replace(" ", "%20");
+    }
+
+    private void report() throws IOException {
+        Path outputDirectory = this.settings.getOutputDirectory().resolve(this.stack);
+        Files.createDirectories(outputDirectory);
+        PrintStream out = System.out;
+        out.printf("%n[%s]%n%-14s %10s %10s %9s %9s %9s %9s %8s %9s%n", this.stack, "operation", "count",
+            "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors", "rejected");
+        long total = 0;
+        for (OperationStats operationStats : this.stats.values()) {
+            total += operationStats.count();
+            out.printf("%-14s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %8d %9d%n",
+                operationStats.getOperation(),
+                operationStats.count(),
+                operationStats.count() / this.elapsedSeconds,
+                operationStats.percentileMillis(50.0),
+                operationStats.percentileMillis(99.0),
+                operationStats.percentileMillis(99.9),
+                operationStats.histogram().getMaxValue() / 1000.0,
+                operationStats.errors(),
+                operationStats.rejections());
+            try (PrintStream histogramOutput = new PrintStream(Files.newOutputStream(
+                outputDirectory.resolve(operationStats.getOperation() + ".hgrm")))) {
+                operationStats.histogram().outputPercentileDistribution(histogramOutput, 1000.0);
+            }
+        }
+        out.printf("%-14s %10d %10.1f%n%n", "TOTAL", total, total / this.elapsedSeconds);
+        log.info("HdrHistogram percentile distributions written to {}",
+            outputDirectory.toAbsolutePath());
+    }
+
+}
@@ -0,0 +1,73 @@
+package br.com.beerstock.beerstockapi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LoadTestSettings {
+
+    private static final String DEFAULT_MIX =
+        "FIND_BY_NAME:60,FIND_ALL:10,INCREMENT:10,DECREMENT:10,CREATE_DELETE:10";
+
+    private final String baseUrl;
+
+    private final List<String> stacks;
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    private final int concurrency;
+
+    private final int catalogSize;
+
+    private final int hotKeys;
+
+    private final double hotKeyRatio;
+
+    private final Map<Operation, Integer> mix;
+
+    private final String baseline;
+
+    private final boolean failOnBaseline;
+
+    private final Path outputDirectory;
+
+    public static LoadTestSettings fromSystemProperties() {
+        return LoadTestSettings.builder()
+            .baseUrl(System.getProperty("loadtest.baseUrl"))
+            .stacks(Arrays.stream(System.getProperty("loadtest.stacks", "servlet").split(","))
+                .map(String::trim)
+                .collect(Collectors.toList()))
+            .warmup(Duration.ofSeconds(Long.getLong("loadtest.warmup", 5)))
+            .duration(Duration.ofSeconds(Long.getLong("loadtest.duration", 20)))
+            .concurrency(Integer.getInteger("loadtest.concurrency", 32))
+            .catalogSize(Integer.getInteger("loadtest.catalogSize", 2000))
+            .hotKeys(Integer.getInteger("loadtest.hotKeys", 10))
+            .hotKeyRatio(Double.parseDouble(System.getProperty("loadtest.hotKeyRatio", "0.8")))
+            .mix(parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)))
+            .baseline(System.getProperty("loadtest.baseline", "loadtest-baseline.properties"))
+            .failOnBaseline(Boolean.parseBoolean(
+                System.getProperty("loadtest.failOnBaseline", "true")))
+            .outputDirectory(Path.of(System.getProperty("loadtest.output", "target/loadtest")))
+            .build();
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.trim().split(":");
+            weights.put(Operation.valueOf(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+        return weights;
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.beerstock.beerstockapi.loadtest;
+
+public enum Operation {
+
+    FIND_BY_NAME,
+    FIND_ALL,
+    INCREMENT,
+    DECREMENT,
+    CREATE_DELETE;
+
+}
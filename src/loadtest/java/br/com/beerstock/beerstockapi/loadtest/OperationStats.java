@@ -0,0 +1,72 @@
+package br.com.beerstock.beerstockapi.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import lombok.Getter;
+
+public class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    @Getter
+    private final Operation operation;
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    private Histogram histogram;
+
+    public OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    public void record(long latencyNanos, Outcome outcome) {
+        this.recorder.recordValue(
+            Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (outcome == Outcome.ERROR) {
+            this.errors.increment();
+        } else if (outcome == Outcome.REJECTED) {
+            this.rejections.increment();
+        }
+    }
+
+    public void reset() {
+        this.recorder.reset();
+        this.errors.reset();
+        this.rejections.reset();
+    }
+
+    public Histogram histogram() {
+        if (this.histogram == null) {
+            this.histogram = this.recorder.getIntervalHistogram();
+        }
+        return this.histogram;
+    }
+
+    public long count() {
+        return histogram().getTotalCount();
+    }
+
+    public long errors() {
+        return this.errors.sum();
+    }
+
+    public long rejections() {
+        return this.rejections.sum();
+    }
+
+    public double percentileMillis(double percentile) {
+        return histogram().getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        REJECTED,
+        ERROR
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.com.beerstock.beerstockapi.api.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String BEERS_BY_NAME_CACHE = "beersByName";
+
+}
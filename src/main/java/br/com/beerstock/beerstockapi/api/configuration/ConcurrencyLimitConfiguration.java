@@ -0,0 +1,58 @@
+package br.com.beerstock.beerstockapi.api.configuration;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import br.com.beerstock.beerstockapi.api.filters.ConcurrencyLimitFilter;
+import br.com.beerstock.beerstockapi.domain.limits.AimdConcurrencyLimiter;
+
+@Configuration
+@Profile("!" + ReactiveConfiguration.REACTIVE_PROFILE)
+public class ConcurrencyLimitConfiguration {
+
+    public static final String READ_LIMITER = "readConcurrencyLimiter";
+    public static final String WRITE_LIMITER = "writeConcurrencyLimiter";
+
+    @Bean(name = READ_LIMITER)
+    public AimdConcurrencyLimiter readConcurrencyLimiter(
+        MeterRegistry meterRegistry,
+        @Value("${beerstock.limits.read.initial-limit:50}") int initialLimit,
+        @Value("${beerstock.limits.read.min-limit:5}") int minLimit,
+        @Value("${beerstock.limits.read.max-limit:200}") int maxLimit,
+        @Value("${beerstock.limits.read.latency-threshold:100ms}") Duration latencyThreshold,
+        @Value("${beerstock.limits.backoff-ratio:0.9}") double backoffRatio) {
+        return new AimdConcurrencyLimiter("read", initialLimit, minLimit, maxLimit,
+            backoffRatio, latencyThreshold, meterRegistry);
+    }
+
+    @Bean(name = WRITE_LIMITER)
+    public AimdConcurrencyLimiter writeConcurrencyLimiter(
+        MeterRegistry meterRegistry,
+        @Value("${beerstock.limits.write.initial-limit:10}") int initialLimit,
+        @Value("${beerstock.limits.write.min-limit:2}") int minLimit,
+        @Value("${beerstock.limits.write.max-limit:20}") int maxLimit,
+        @Value("${beerstock.limits.write.latency-threshold:250ms}") Duration latencyThreshold,
+        @Value("${beerstock.limits.backoff-ratio:0.9}") double backoffRatio) {
+        return new AimdConcurrencyLimiter("write", initialLimit, minLimit, maxLimit,
+            backoffRatio, latencyThreshold, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+        @Qualifier(READ_LIMITER) AimdConcurrencyLimiter readLimiter,
+        @Qualifier(WRITE_LIMITER) AimdConcurrencyLimiter writeLimiter,
+        @Value("${beerstock.limits.retry-after:1s}") Duration retryAfter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(readLimiter, writeLimiter, retryAfter));
+        registration.addUrlPatterns("/api/v1/beers/*", "/api/v1/beers", "/api/v1/beer-exports");
+        return registration;
+    }
+
+}
@@ -0,0 +1,88 @@
+package br.com.beerstock.beerstockapi.api.configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import br.com.beerstock.beerstockapi.api.filters.ReadYourWritesFilter;
+import br.com.beerstock.beerstockapi.domain.routing.ReadWriteRoutingDataSource;
+import br.com.beerstock.beerstockapi.domain.routing.ReadYourWrites;
+import br.com.beerstock.beerstockapi.domain.routing.ReplicaLagGuard;
+
+@Configuration
+@Profile("!" + ReactiveConfiguration.REACTIVE_PROFILE)
+@ConditionalOnProperty("beerstock.datasource.replicas[0].url")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceRoutingConfiguration {
+
+    public static final String BEERS_API_PATH = "/api/v1/beers";
+
+    public static final String POSTGRES_REPLICA_LAG_QUERY =
+        "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+        + " else extract(epoch from now() - pg_last_xact_replay_timestamp()) end";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(
+        Environment environment,
+        MeterRegistry meterRegistry,
+        @Value("${beerstock.datasource.replica-lag-query:" + POSTGRES_REPLICA_LAG_QUERY + "}") String lagQuery,
+        @Value("${beerstock.datasource.max-replica-lag:1s}") Duration maxReplicaLag) {
+        List<DataSourceProperties> replicaProperties = Binder.get(environment)
+            .bind("beerstock.datasource.replicas", Bindable.listOf(DataSourceProperties.class))
+            .orElse(List.of());
+        List<HikariDataSource> replicas = new ArrayList<>(replicaProperties.size());
+        for (int replica = 0; replica < replicaProperties.size(); replica++) {
+            HikariDataSource dataSource = replicaProperties.get(replica).initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+            dataSource.setPoolName("replica-" + replica);
+            dataSource.setReadOnly(true);
+            replicas.add(dataSource);
+        }
+        return new ReplicaLagGuard(replicas, lagQuery, maxReplicaLag, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWrites readYourWrites) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+            new ReadYourWritesFilter(readYourWrites, BEERS_API_PATH));
+        registration.addUrlPatterns(BEERS_API_PATH + "/*", BEERS_API_PATH);
+        return registration;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagGuard replicaLagGuard) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+            primaryDataSource, replicaLagGuard.getReplicas(), replicaLagGuard);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+}
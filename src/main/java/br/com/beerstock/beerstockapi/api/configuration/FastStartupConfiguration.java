@@ -0,0 +1,37 @@
+package br.com.beerstock.beerstockapi.api.configuration;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import br.com.beerstock.beerstockapi.api.controllers.BeerController;
+import br.com.beerstock.beerstockapi.api.controllers.ReactiveBeerController;
+
+@Configuration
+@Profile(FastStartupConfiguration.FAST_STARTUP_PROFILE)
+public class FastStartupConfiguration {
+
+    public static final String FAST_STARTUP_PROFILE = "fast-startup";
+
+    private static final Set<Class<?>> EAGER_TYPES = Set.of(
+        BeerController.class, ReactiveBeerController.class);
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+            && (EAGER_TYPES.contains(beanType) || hasScheduledMethods(beanType));
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+            .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+
+}
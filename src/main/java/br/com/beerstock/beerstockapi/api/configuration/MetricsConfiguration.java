@@ -0,0 +1,21 @@
+package br.com.beerstock.beerstockapi.api.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class MetricsConfiguration {
+
+    public static final String OPERATIONS_TIMER = "beerstock.service.operations";
+    public static final String OPERATION_DB_CALLS = "beerstock.service.db.calls";
+    public static final String REPOSITORY_CALLS = "beerstock.repository.calls";
+    public static final String STOCK_QUANTITY = "beerstock.stock.quantity";
+    public static final String STOCK_TRANSITIONS = "beerstock.stock.transitions";
+    public static final String CONCURRENCY_LIMIT = "beerstock.concurrency.limit";
+    public static final String CONCURRENCY_IN_FLIGHT = "beerstock.concurrency.in.flight";
+    public static final String CONCURRENCY_LIMIT_CHANGES = "beerstock.concurrency.limit.changes";
+    public static final String CONCURRENCY_REJECTIONS = "beerstock.concurrency.rejections";
+    public static final String REPLICA_LAG = "beerstock.datasource.replica.lag";
+
+}
@@ -0,0 +1,74 @@
+package br.com.beerstock.beerstockapi.api.configuration;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.beerstock.beerstockapi.api.repository.ReactiveBeerRepository;
+
+@Configuration
+@Profile(ReactiveConfiguration.REACTIVE_PROFILE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+@EnableR2dbcRepositories(
+    basePackageClasses = ReactiveBeerRepository.class,
+    excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = JpaRepository.class))
+public class ReactiveConfiguration {
+
+    public static final String REACTIVE_PROFILE = "reactive";
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    public TransactionalOperator transactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory),
+            List.of(new BytesToUuidConverter()));
+    }
+
+    @ReadingConverter
+    static class BytesToUuidConverter implements Converter<byte[], UUID> {
+
+        @Override
+        public UUID convert(byte[] source) {
+            ByteBuffer buffer = ByteBuffer.wrap(source);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+
+    }
+
+}
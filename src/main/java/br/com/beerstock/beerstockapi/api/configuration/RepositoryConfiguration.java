@@ -0,0 +1,18 @@
+package br.com.beerstock.beerstockapi.api.configuration;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+
+@Configuration
+@EnableJpaRepositories(
+    basePackageClasses = BeerRepository.class,
+    excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = R2dbcRepository.class))
+public class RepositoryConfiguration {
+
+}
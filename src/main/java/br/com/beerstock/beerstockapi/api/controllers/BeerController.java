@@ -4,32 +4,51 @@ import java.util.List;
 import java.util.UUID;
 import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.http.HttpStatus;
 import lombok.AllArgsConstructor;
 
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
 import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
 import br.com.beerstock.beerstockapi.api.dtos.QuantityDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregatesDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentRequestDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentResultDTO;
 import br.com.beerstock.beerstockapi.api.exception.BeerAlreadyRegisteredException;
 import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
 import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.IdempotencyKeyReusedException;
+import br.com.beerstock.beerstockapi.api.exception.IdempotentRequestInProgressException;
+import br.com.beerstock.beerstockapi.api.exception.InvalidCursorException;
 import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.domain.idempotency.IdempotencyStore;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentMode;
 import br.com.beerstock.beerstockapi.domain.services.BeerService;
+import br.com.beerstock.beerstockapi.domain.services.BeerStockAdjustmentService;
 
 @RestController
+@Profile("!" + ReactiveConfiguration.REACTIVE_PROFILE)
 @RequestMapping("/api/v1/beers")
 @AllArgsConstructor(onConstructor = @__(@Autowired))
 public class BeerController {
 
     private final BeerService beerService;
+    private final BeerStockAdjustmentService beerStockAdjustmentService;
+    private final IdempotencyStore idempotencyStore;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -39,13 +58,42 @@ public class BeerController {
     }
 
     @GetMapping("/{name}")
-    public BeerDTO findByName(@PathVariable String name) throws BeerNotFoundException {
-        return this.beerService.findByName(name);
+    public BeerDTO findByName(@PathVariable String name, WebRequest request)
+        throws BeerNotFoundException {
+        BeerDTO beerDTO = this.beerService.findByName(name);
+        if (request.checkNotModified(BeerService.versionTagOf(beerDTO))) {
+            return null;
+        }
+        return beerDTO;
     }
 
     @GetMapping
-    public List<BeerDTO> findAll() {
-        return this.beerService.findAll();
+    public BeerPageDTO findAll(
+        BeerFilterDTO filter,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + BeerService.DEFAULT_PAGE_SIZE) int size,
+        WebRequest request)
+        throws InvalidCursorException {
+        BeerPageDTO beerPageDTO = this.beerService.findAll(filter, cursor, size);
+        if (request.checkNotModified(beerPageDTO.getVersion())) {
+            return null;
+        }
+        return beerPageDTO;
+    }
+
+    @GetMapping("/low-stock")
+    public BeerPageDTO findLowStock(
+        @RequestParam double below,
+        BeerFilterDTO filter,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + BeerService.DEFAULT_PAGE_SIZE) int size)
+        throws InvalidCursorException {
+        return this.beerService.findLowStock(below, filter, cursor, size);
+    }
+
+    @GetMapping("/aggregates")
+    public StockAggregatesDTO findStockAggregates() {
+        return this.beerService.findStockAggregates();
     }
 
     @DeleteMapping("/{id}")
@@ -57,19 +105,39 @@ public class BeerController {
     @PatchMapping("/increment/{id}")
     public BeerDTO increment(
         @PathVariable UUID id,
+        @RequestHeader(name = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false)
+        String idempotencyKey,
         @RequestBody
         @Valid QuantityDTO quantityDTO)
-        throws BeerNotFoundException, BeerStockExceededException {
-        return this.beerService.increment(id, quantityDTO.getQuantity());
+        throws BeerNotFoundException, BeerStockExceededException, StockLessThenZeroException,
+        IdempotencyKeyReusedException, IdempotentRequestInProgressException {
+        return this.idempotencyStore.execute(idempotencyKey,
+            IdempotencyStore.INCREMENT, id, quantityDTO.getQuantity(),
+            () -> this.beerService.increment(id, quantityDTO.getQuantity()));
     }
 
     @PatchMapping("/decrement/{id}")
     public BeerDTO decrement(
         @PathVariable UUID id,
+        @RequestHeader(name = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false)
+        String idempotencyKey,
         @RequestBody
         @Valid QuantityDTO quantityDTO)
-        throws BeerNotFoundException, StockLessThenZeroException {
-        return this.beerService.decrement(id, quantityDTO.getQuantity());
+        throws BeerNotFoundException, BeerStockExceededException, StockLessThenZeroException,
+        IdempotencyKeyReusedException, IdempotentRequestInProgressException {
+        return this.idempotencyStore.execute(idempotencyKey,
+            IdempotencyStore.DECREMENT, id, quantityDTO.getQuantity(),
+            () -> this.beerService.decrement(id, quantityDTO.getQuantity()));
+    }
+
+    @PostMapping("/stock-adjustments")
+    public List<StockAdjustmentResultDTO> adjustStock(
+        @RequestParam(defaultValue = "ATOMIC") StockAdjustmentMode mode,
+        @RequestBody
+        @Valid StockAdjustmentRequestDTO stockAdjustmentRequestDTO)
+        throws BeerNotFoundException, BeerStockExceededException, StockLessThenZeroException {
+        return this.beerStockAdjustmentService
+            .adjust(stockAdjustmentRequestDTO.getAdjustments(), mode);
     }
 
 }
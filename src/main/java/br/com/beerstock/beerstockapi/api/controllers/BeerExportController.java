@@ -0,0 +1,37 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import lombok.AllArgsConstructor;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.domain.enums.ExportFormat;
+import br.com.beerstock.beerstockapi.domain.services.BeerExportService;
+
+@RestController
+@Profile("!" + ReactiveConfiguration.REACTIVE_PROFILE)
+@RequestMapping("/api/v1/beer-exports")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerExportController {
+
+    private final BeerExportService beerExportService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                String.format("attachment; filename=beers.%s", format.getExtension()))
+            .body(outputStream -> this.beerExportService.export(format, outputStream));
+    }
+
+}
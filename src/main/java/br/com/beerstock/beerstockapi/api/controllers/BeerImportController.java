@@ -0,0 +1,53 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import lombok.AllArgsConstructor;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerImportJobDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerImportJobNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerImportRejectedException;
+import br.com.beerstock.beerstockapi.domain.enums.ImportFormat;
+import br.com.beerstock.beerstockapi.domain.services.BeerImportService;
+
+@RestController
+@Profile("!" + ReactiveConfiguration.REACTIVE_PROFILE)
+@RequestMapping("/api/v1/beers/imports")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerImportController {
+
+    private final BeerImportService beerImportService;
+
+    @PostMapping(consumes = { MediaType.APPLICATION_JSON_VALUE, "text/csv" })
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public BeerImportJobDTO importBeers(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        InputStream body)
+        throws IOException, HttpMediaTypeNotSupportedException, BeerImportRejectedException {
+        ImportFormat format = ImportFormat.fromContentType(contentType)
+            .orElseThrow(() -> new HttpMediaTypeNotSupportedException(contentType.toString()));
+        return this.beerImportService.startImport(format, body);
+    }
+
+    @GetMapping("/{id}")
+    public BeerImportJobDTO findImportJob(@PathVariable UUID id)
+        throws BeerImportJobNotFoundException {
+        return this.beerImportService.findJobById(id);
+    }
+
+}
@@ -0,0 +1,105 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.util.UUID;
+import javax.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import lombok.AllArgsConstructor;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+import br.com.beerstock.beerstockapi.api.dtos.QuantityDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregatesDTO;
+import br.com.beerstock.beerstockapi.domain.idempotency.IdempotencyStore;
+import br.com.beerstock.beerstockapi.domain.services.BeerService;
+import br.com.beerstock.beerstockapi.domain.services.ReactiveBeerService;
+
+@RestController
+@Profile(ReactiveConfiguration.REACTIVE_PROFILE)
+@RequestMapping("/api/v1/beers")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class ReactiveBeerController {
+
+    private final ReactiveBeerService beerService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<BeerDTO> createBeer(@RequestBody @Valid BeerDTO beerDTO) {
+        return this.beerService.createBeer(beerDTO);
+    }
+
+    @GetMapping("/{name}")
+    public Mono<BeerDTO> findByName(@PathVariable String name, ServerWebExchange exchange) {
+        return this.beerService.findByName(name)
+            .filter(beerDTO -> !exchange.checkNotModified(BeerService.versionTagOf(beerDTO)));
+    }
+
+    @GetMapping
+    public Mono<BeerPageDTO> findAll(
+        BeerFilterDTO filter,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + BeerService.DEFAULT_PAGE_SIZE) int size,
+        ServerWebExchange exchange) {
+        if (exchange.checkNotModified(this.beerService.catalogVersion())) {
+            return Mono.empty();
+        }
+        return this.beerService.findAll(filter, cursor, size);
+    }
+
+    @GetMapping("/low-stock")
+    public Mono<BeerPageDTO> findLowStock(
+        @RequestParam double below,
+        BeerFilterDTO filter,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + BeerService.DEFAULT_PAGE_SIZE) int size) {
+        return this.beerService.findLowStock(below, filter, cursor, size);
+    }
+
+    @GetMapping("/aggregates")
+    public Mono<StockAggregatesDTO> findStockAggregates() {
+        return Mono.fromSupplier(this.beerService::findStockAggregates);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteById(@PathVariable UUID id) {
+        return this.beerService.deleteById(id);
+    }
+
+    @PatchMapping("/increment/{id}")
+    public Mono<BeerDTO> increment(
+        @PathVariable UUID id,
+        @RequestHeader(name = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false)
+        String idempotencyKey,
+        @RequestBody
+        @Valid QuantityDTO quantityDTO) {
+        return this.beerService.increment(id, quantityDTO.getQuantity(), idempotencyKey);
+    }
+
+    @PatchMapping("/decrement/{id}")
+    public Mono<BeerDTO> decrement(
+        @PathVariable UUID id,
+        @RequestHeader(name = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false)
+        String idempotencyKey,
+        @RequestBody
+        @Valid QuantityDTO quantityDTO) {
+        return this.beerService.decrement(id, quantityDTO.getQuantity(), idempotencyKey);
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import lombok.AllArgsConstructor;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeFilterDTO;
+import br.com.beerstock.beerstockapi.api.exception.StockStreamUnavailableException;
+import br.com.beerstock.beerstockapi.domain.streams.StockChangeStream;
+
+@RestController
+@RequestMapping("/api/v1/beer-changes")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class StockChangeController {
+
+    private final StockChangeStream stockChangeStream;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<StockChangeDTO>> streamChanges(StockChangeFilterDTO filter)
+        throws StockStreamUnavailableException {
+        return this.stockChangeStream.subscribe(filter);
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import lombok.AllArgsConstructor;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.StockLedgerDTO;
+import br.com.beerstock.beerstockapi.domain.services.StockLedgerService;
+
+@RestController
+@Profile("!" + ReactiveConfiguration.REACTIVE_PROFILE)
+@RequestMapping("/api/v1/beers")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class StockLedgerController {
+
+    private final StockLedgerService stockLedgerService;
+
+    @GetMapping("/{id}/movements")
+    public StockLedgerDTO findLedger(
+        @PathVariable UUID id,
+        @RequestParam(defaultValue = "" + StockLedgerService.DEFAULT_MOVEMENTS_SIZE) int size) {
+        return this.stockLedgerService.findLedger(id, size);
+    }
+
+}
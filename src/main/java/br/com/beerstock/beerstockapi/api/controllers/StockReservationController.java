@@ -0,0 +1,62 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import javax.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import lombok.AllArgsConstructor;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockReservationDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockReservationRequestDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.exception.StockReservationNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.StockShardingConflictException;
+import br.com.beerstock.beerstockapi.domain.services.StockReservationService;
+
+@RestController
+@Profile("!" + ReactiveConfiguration.REACTIVE_PROFILE)
+@RequestMapping("/api/v1/beers")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class StockReservationController {
+
+    private final StockReservationService stockReservationService;
+
+    @PostMapping("/{id}/reservations")
+    @ResponseStatus(HttpStatus.CREATED)
+    public StockReservationDTO reserve(
+        @PathVariable UUID id,
+        @RequestBody @Valid StockReservationRequestDTO reservationRequestDTO)
+        throws BeerNotFoundException, StockLessThenZeroException, StockShardingConflictException {
+        int ttlSeconds = Optional.ofNullable(reservationRequestDTO.getTtlSeconds())
+            .orElse(StockReservationRequestDTO.DEFAULT_TTL_SECONDS);
+        return this.stockReservationService.reserve(
+            id, reservationRequestDTO.getQuantity(), Duration.ofSeconds(ttlSeconds));
+    }
+
+    @PostMapping("/reservations/{reservationId}/commit")
+    public BeerDTO commit(@PathVariable UUID reservationId)
+        throws StockReservationNotFoundException, BeerNotFoundException {
+        return this.stockReservationService.commit(reservationId);
+    }
+
+    @DeleteMapping("/reservations/{reservationId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void release(@PathVariable UUID reservationId)
+        throws StockReservationNotFoundException {
+        this.stockReservationService.release(reservationId);
+    }
+
+}
@@ -0,0 +1,50 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.util.UUID;
+import javax.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.StockShardsDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockShardsRequestDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.StockShardingConflictException;
+import br.com.beerstock.beerstockapi.domain.services.StockShardService;
+import lombok.AllArgsConstructor;
+
+@RestController
+@Profile("!" + ReactiveConfiguration.REACTIVE_PROFILE)
+@RequestMapping("/api/v1/beers")
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class StockShardController {
+
+    private final StockShardService stockShardService;
+
+    @GetMapping("/{id}/shards")
+    public StockShardsDTO findShards(@PathVariable UUID id) throws BeerNotFoundException {
+        return this.stockShardService.findShards(id);
+    }
+
+    @PutMapping("/{id}/shards")
+    public StockShardsDTO enable(
+        @PathVariable UUID id,
+        @RequestBody @Valid StockShardsRequestDTO shardsRequestDTO)
+        throws BeerNotFoundException, StockShardingConflictException {
+        return this.stockShardService.enable(id, shardsRequestDTO.getCount());
+    }
+
+    @DeleteMapping("/{id}/shards")
+    public StockShardsDTO disable(@PathVariable UUID id) throws BeerNotFoundException {
+        return this.stockShardService.disable(id);
+    }
+
+}
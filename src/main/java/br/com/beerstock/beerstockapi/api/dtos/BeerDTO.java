@@ -7,6 +7,8 @@ import javax.validation.constraints.Max;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -42,4 +44,7 @@ public class BeerDTO {
     @NotNull
     private BeerType type;
 
+    @JsonIgnore
+    private long version;
+
 }
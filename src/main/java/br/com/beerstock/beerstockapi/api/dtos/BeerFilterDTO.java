@@ -0,0 +1,28 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BeerFilterDTO {
+
+    private BeerType type;
+
+    private String brand;
+
+    private Integer quantityFrom;
+
+    private Integer quantityTo;
+
+    private Integer maxFrom;
+
+    private Integer maxTo;
+
+}
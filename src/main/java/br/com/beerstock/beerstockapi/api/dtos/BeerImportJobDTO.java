@@ -0,0 +1,35 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import br.com.beerstock.beerstockapi.domain.enums.ImportJobStatus;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BeerImportJobDTO {
+
+    private UUID id;
+
+    private ImportJobStatus status;
+
+    private long processed;
+
+    private long imported;
+
+    private long rejected;
+
+    private List<String> errors;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+}
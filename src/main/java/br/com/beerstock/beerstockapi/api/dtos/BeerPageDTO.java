@@ -0,0 +1,24 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BeerPageDTO {
+
+    private List<BeerDTO> items;
+
+    private String next;
+
+    @JsonIgnore
+    private String version;
+
+}
@@ -0,0 +1,26 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.util.UUID;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentDTO {
+
+    @NotNull
+    private UUID id;
+
+    @NotNull
+    @Min(-500)
+    @Max(500)
+    private Integer delta;
+
+}
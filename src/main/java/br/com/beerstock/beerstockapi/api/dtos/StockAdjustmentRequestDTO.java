@@ -0,0 +1,22 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentRequestDTO {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid StockAdjustmentDTO> adjustments;
+
+}
@@ -0,0 +1,25 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentStatus;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentResultDTO {
+
+    private UUID id;
+
+    private Integer delta;
+
+    private StockAdjustmentStatus status;
+
+    private Integer quantity;
+
+}
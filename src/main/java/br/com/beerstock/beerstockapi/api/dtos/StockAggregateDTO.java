@@ -0,0 +1,20 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAggregateDTO {
+
+    private long beers;
+
+    private long units;
+
+    private long capacity;
+
+}
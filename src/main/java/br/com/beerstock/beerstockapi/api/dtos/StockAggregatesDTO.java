@@ -0,0 +1,21 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAggregatesDTO {
+
+    private Map<BeerType, StockAggregateDTO> byType;
+
+    private Map<String, StockAggregateDTO> byBrand;
+
+}
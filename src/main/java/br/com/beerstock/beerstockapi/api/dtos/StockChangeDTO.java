@@ -0,0 +1,24 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockChangeDTO {
+
+    private BeerChangeType type;
+
+    private int quantityDelta;
+
+    private int changes;
+
+    private BeerDTO beer;
+
+}
@@ -0,0 +1,22 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.util.Set;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockChangeFilterDTO {
+
+    private Set<UUID> beerId;
+
+    private Set<BeerType> type;
+
+}
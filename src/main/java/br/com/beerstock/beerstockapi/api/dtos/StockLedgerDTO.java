@@ -0,0 +1,27 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLedgerDTO {
+
+    private UUID beerId;
+
+    private long quantity;
+
+    private long snapshotQuantity;
+
+    private Instant snapshotTakenAt;
+
+    private List<StockMovementDTO> movements;
+
+}
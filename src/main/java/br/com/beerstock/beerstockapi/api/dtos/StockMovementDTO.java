@@ -0,0 +1,25 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockMovementDTO {
+
+    private long id;
+
+    private BeerChangeType type;
+
+    private int delta;
+
+    private Instant createdAt;
+
+}
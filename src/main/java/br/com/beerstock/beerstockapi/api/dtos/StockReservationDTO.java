@@ -0,0 +1,24 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationDTO {
+
+    private UUID id;
+
+    private UUID beerId;
+
+    private int quantity;
+
+    private Instant expiresAt;
+
+}
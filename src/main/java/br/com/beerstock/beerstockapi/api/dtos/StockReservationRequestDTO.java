@@ -0,0 +1,28 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationRequestDTO {
+
+    public static final int DEFAULT_TTL_SECONDS = 300;
+
+    @NotNull
+    @Min(1)
+    @Max(500)
+    private Integer quantity;
+
+    @Min(1)
+    @Max(3600)
+    private Integer ttlSeconds;
+
+}
@@ -0,0 +1,22 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockShardsDTO {
+
+    private UUID beerId;
+
+    private int quantity;
+
+    private List<Integer> shards;
+
+}
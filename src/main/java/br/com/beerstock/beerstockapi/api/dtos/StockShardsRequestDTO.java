@@ -0,0 +1,22 @@
+package br.com.beerstock.beerstockapi.api.dtos;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockShardsRequestDTO {
+
+    @NotNull
+    @Min(1)
+    @Max(64)
+    private Integer count;
+
+}
@@ -0,0 +1,15 @@
+package br.com.beerstock.beerstockapi.api.exception;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class BeerImportJobNotFoundException extends Exception {
+
+    public BeerImportJobNotFoundException(UUID id) {
+        super(String.format("Beer import job with id %s not found in the system.", id));
+    }
+
+}
@@ -0,0 +1,13 @@
+package br.com.beerstock.beerstockapi.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class BeerImportRejectedException extends Exception {
+
+    public BeerImportRejectedException() {
+        super("Beer import queue is full, try again later.");
+    }
+
+}
@@ -0,0 +1,13 @@
+package br.com.beerstock.beerstockapi.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotentRequestInProgressException extends Exception {
+
+    public IdempotentRequestInProgressException(String key) {
+        super(String.format("Request with idempotency key %s is still in progress, try again later.", key));
+    }
+
+}
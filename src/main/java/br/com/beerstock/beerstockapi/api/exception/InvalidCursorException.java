@@ -0,0 +1,13 @@
+package br.com.beerstock.beerstockapi.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends Exception {
+
+    public InvalidCursorException(String cursor) {
+        super(String.format("Cursor %s is not valid for this listing.", cursor));
+    }
+
+}
@@ -0,0 +1,15 @@
+package br.com.beerstock.beerstockapi.api.exception;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class StockReservationNotFoundException extends Exception {
+
+    public StockReservationNotFoundException(UUID id) {
+        super(String.format("Stock reservation with id %s not found or already expired.", id));
+    }
+
+}
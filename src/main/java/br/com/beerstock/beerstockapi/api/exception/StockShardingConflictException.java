@@ -0,0 +1,16 @@
+package br.com.beerstock.beerstockapi.api.exception;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class StockShardingConflictException extends Exception {
+
+    public StockShardingConflictException(UUID id) {
+        super(String.format(
+            "Beer with id %s cannot have sharded stock and reservations at the same time.", id));
+    }
+
+}
@@ -0,0 +1,14 @@
+package br.com.beerstock.beerstockapi.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class StockStreamUnavailableException extends Exception {
+
+    public StockStreamUnavailableException(int maxSubscribers) {
+        super(String.format("Stock change stream already has %s subscribers, try again later.",
+            maxSubscribers));
+    }
+
+}
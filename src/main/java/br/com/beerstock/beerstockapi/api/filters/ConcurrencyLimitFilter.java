@@ -0,0 +1,98 @@
+package br.com.beerstock.beerstockapi.api.filters;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import br.com.beerstock.beerstockapi.domain.limits.AimdConcurrencyLimiter;
+
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AimdConcurrencyLimiter readLimiter;
+    private final AimdConcurrencyLimiter writeLimiter;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(
+        AimdConcurrencyLimiter readLimiter,
+        AimdConcurrencyLimiter writeLimiter,
+        Duration retryAfter) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfterSeconds = Long.toString(Math.max(retryAfter.toSeconds(), 1));
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        AimdConcurrencyLimiter limiter = isRead(request) ? this.readLimiter : this.writeLimiter;
+        Optional<AimdConcurrencyLimiter.Permit> acquiredPermit = limiter.tryAcquire();
+        if (acquiredPermit.isEmpty()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, this.retryAfterSeconds);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        AimdConcurrencyLimiter.Permit permit = acquiredPermit.get();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            permit.release(true);
+            throw e;
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new PermitReleasingListener(permit));
+        } else {
+            permit.release(isServerError(response));
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod())
+            || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static boolean isServerError(HttpServletResponse response) {
+        return response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    private static class PermitReleasingListener implements AsyncListener {
+
+        private final AimdConcurrencyLimiter.Permit permit;
+
+        PermitReleasingListener(AimdConcurrencyLimiter.Permit permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            this.permit.releaseWithoutSample();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            this.permit.releaseWithoutSample();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            this.permit.releaseWithoutSample();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package br.com.beerstock.beerstockapi.api.filters;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import br.com.beerstock.beerstockapi.domain.routing.ReadYourWrites;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final String cookiePath;
+    private final int cookieMaxAgeSeconds;
+
+    public ReadYourWritesFilter(ReadYourWrites readYourWrites, String cookiePath) {
+        this.cookiePath = cookiePath;
+        this.cookieMaxAgeSeconds = (int) Math.max(
+            (readYourWrites.getWindow().toMillis() + 999) / 1000, 1);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        ReadYourWrites.bindWriter(lastWriteOf(request), writeMillis -> {
+            Cookie lastWrite = new Cookie(ReadYourWrites.LAST_WRITE_COOKIE, Long.toString(writeMillis));
+            lastWrite.setPath(this.cookiePath);
+            lastWrite.setMaxAge(this.cookieMaxAgeSeconds);
+            lastWrite.setHttpOnly(true);
+            response.addCookie(lastWrite);
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.unbindWriter();
+        }
+    }
+
+    private static Long lastWriteOf(HttpServletRequest request) {
+        Cookie lastWrite = WebUtils.getCookie(request, ReadYourWrites.LAST_WRITE_COOKIE);
+        if (lastWrite == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastWrite.getValue());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package br.com.beerstock.beerstockapi.api.mappers;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
 import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
@@ -11,6 +12,10 @@ public interface BeerMapper {
     
     BeerMapper INSTANCE = Mappers.getMapper(BeerMapper.class);
 
+    @Mapping(target = "reserved", ignore = true)
+    @Mapping(target = "shards", ignore = true)
+    @Mapping(target = "fillRatio", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Beer toBeer(BeerDTO beerDTO);
 
     BeerDTO toBeerDTO(Beer beer);
@@ -1,15 +1,101 @@
 package br.com.beerstock.beerstockapi.api.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import br.com.beerstock.beerstockapi.domain.entity.Beer;
 
 @Repository
-public interface BeerRepository extends JpaRepository<Beer, UUID> {
+public interface BeerRepository
+    extends JpaRepository<Beer, UUID>, JpaSpecificationExecutor<Beer>, BeerRepositoryCustom {
+
+    String FILL_RATIO_PLUS_QUANTITY =
+        "coalesce(1.0 * (b.quantity + :quantity) / nullif(b.max, 0), 1.0)";
+    String FILL_RATIO_MINUS_QUANTITY =
+        "coalesce(1.0 * (b.quantity - :quantity) / nullif(b.max, 0), 1.0)";
 
     Optional<Beer> findByName(String name);
 
+    @Query("select b.name from Beer b where b.name in :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @Query("select b from Beer b order by b.name")
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<Beer> streamAll();
+
+    @Query("select b.type as type, sum(b.quantity) as quantity from Beer b group by b.type")
+    List<BeerTypeStock> sumQuantityByType();
+
+    @Query("select b.type as type, b.brand as brand, count(b) as beers,"
+        + " sum(b.quantity) as units, sum(b.max) as capacity"
+        + " from Beer b group by b.type, b.brand")
+    List<BeerStockAggregate> aggregateStockByTypeAndBrand();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Beer b where b.id in :ids order by b.id")
+    List<Beer> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Beer b where b.id = :id")
+    int deleteBeerById(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Beer b set b.quantity = b.quantity + :quantity, b.version = b.version + 1,"
+        + " b.fillRatio = " + FILL_RATIO_PLUS_QUANTITY
+        + " where b.id = :id and b.shards = 0 and b.quantity + :quantity <= b.max")
+    int incrementQuantity(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Beer b set b.quantity = b.quantity - :quantity, b.version = b.version + 1,"
+        + " b.fillRatio = " + FILL_RATIO_MINUS_QUANTITY
+        + " where b.id = :id and b.shards = 0 and b.quantity - b.reserved - :quantity >= 0")
+    int decrementQuantity(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Beer b set b.reserved = b.reserved + :quantity"
+        + " where b.id = :id and b.shards = 0 and b.quantity - b.reserved - :quantity >= 0")
+    int reserveQuantity(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Beer b set b.reserved = b.reserved - :quantity where b.id = :id")
+    int releaseQuantity(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Beer b set b.quantity = b.quantity - :quantity,"
+        + " b.reserved = b.reserved - :quantity, b.version = b.version + 1,"
+        + " b.fillRatio = " + FILL_RATIO_MINUS_QUANTITY + " where b.id = :id")
+    int commitReservedQuantity(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Beer b set b.quantity = :quantity, b.version = b.version + 1,"
+        + " b.fillRatio = coalesce(1.0 * :quantity / nullif(b.max, 0), 1.0)"
+        + " where b.id = :id and b.shards > 0 and b.quantity <> :quantity")
+    int synchronizeShardedQuantity(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Beer b set b.version = b.version + :versions where b.id = :id")
+    int advanceVersion(@Param("id") UUID id, @Param("versions") long versions);
+
 }
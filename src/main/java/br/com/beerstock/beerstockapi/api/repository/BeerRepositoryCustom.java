@@ -0,0 +1,13 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+
+public interface BeerRepositoryCustom {
+
+    List<Beer> findAll(Specification<Beer> specification, Sort sort, int limit);
+
+}
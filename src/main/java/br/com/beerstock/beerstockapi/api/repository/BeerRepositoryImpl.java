@@ -0,0 +1,40 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+
+public class BeerRepositoryImpl implements BeerRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Beer> findAll(Specification<Beer> specification, Sort sort, int limit) {
+        CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<Beer> query = criteriaBuilder.createQuery(Beer.class);
+        Root<Beer> root = query.from(Beer.class);
+        Predicate predicate = specification == null
+            ? null
+            : specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return this.entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+public interface BeerShardTotals {
+
+    Long getQuantity();
+
+    Long getVersion();
+
+}
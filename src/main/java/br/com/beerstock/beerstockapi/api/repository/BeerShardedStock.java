@@ -0,0 +1,11 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.UUID;
+
+public interface BeerShardedStock {
+
+    UUID getBeerId();
+
+    Long getQuantity();
+
+}
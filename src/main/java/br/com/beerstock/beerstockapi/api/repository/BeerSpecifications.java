@@ -0,0 +1,76 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.pagination.Cursor;
+
+public final class BeerSpecifications {
+
+    private BeerSpecifications() {
+    }
+
+    public static Specification<Beer> hasType(BeerType type) {
+        if (type == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get("type"), type);
+    }
+
+    public static Specification<Beer> hasBrand(String brand) {
+        if (brand == null || brand.isBlank()) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get("brand"), brand);
+    }
+
+    public static Specification<Beer> quantityBetween(Integer from, Integer to) {
+        return between("quantity", from, to);
+    }
+
+    public static Specification<Beer> maxBetween(Integer from, Integer to) {
+        return between("max", from, to);
+    }
+
+    private static Specification<Beer> between(String attribute, Integer from, Integer to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        if (to == null) {
+            return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get(attribute), from);
+        }
+        if (from == null) {
+            return (root, query, builder) -> builder.lessThanOrEqualTo(root.get(attribute), to);
+        }
+        return (root, query, builder) -> builder.between(root.get(attribute), from, to);
+    }
+
+    public static Specification<Beer> afterName(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.or(
+            builder.greaterThan(root.<String>get("name"), cursor.getKey()),
+            builder.and(
+                builder.equal(root.get("name"), cursor.getKey()),
+                builder.greaterThan(root.<UUID>get("id"), cursor.getId())));
+    }
+
+    public static Specification<Beer> fillRatioBelow(double threshold) {
+        return (root, query, builder) -> builder.lessThan(root.<Double>get("fillRatio"), threshold);
+    }
+
+    public static Specification<Beer> afterFillRatio(Double fillRatio, UUID id) {
+        if (fillRatio == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.or(
+            builder.greaterThan(root.<Double>get("fillRatio"), fillRatio),
+            builder.and(
+                builder.equal(root.get("fillRatio"), fillRatio),
+                builder.greaterThan(root.<UUID>get("id"), id)));
+    }
+
+}
@@ -0,0 +1,17 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+
+public interface BeerStockAggregate {
+
+    BeerType getType();
+
+    String getBrand();
+
+    Long getBeers();
+
+    Long getUnits();
+
+    Long getCapacity();
+
+}
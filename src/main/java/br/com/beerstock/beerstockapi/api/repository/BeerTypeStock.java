@@ -0,0 +1,11 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+
+public interface BeerTypeStock {
+
+    BeerType getType();
+
+    Long getQuantity();
+
+}
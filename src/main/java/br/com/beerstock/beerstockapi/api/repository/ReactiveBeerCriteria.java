@@ -0,0 +1,71 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.UUID;
+import org.springframework.data.relational.core.query.Criteria;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.pagination.Cursor;
+
+public final class ReactiveBeerCriteria {
+
+    private ReactiveBeerCriteria() {
+    }
+
+    public static Criteria hasType(BeerType type) {
+        if (type == null) {
+            return null;
+        }
+        return Criteria.where("type").is(type.name());
+    }
+
+    public static Criteria hasBrand(String brand) {
+        if (brand == null || brand.isBlank()) {
+            return null;
+        }
+        return Criteria.where("brand").is(brand);
+    }
+
+    public static Criteria quantityBetween(Integer from, Integer to) {
+        return between("quantity", from, to);
+    }
+
+    public static Criteria maxBetween(Integer from, Integer to) {
+        return between("max", from, to);
+    }
+
+    private static Criteria between(String column, Integer from, Integer to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        if (to == null) {
+            return Criteria.where(column).greaterThanOrEquals(from);
+        }
+        if (from == null) {
+            return Criteria.where(column).lessThanOrEquals(to);
+        }
+        return Criteria.where(column).between(from, to);
+    }
+
+    public static Criteria afterName(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return Criteria.where("name").greaterThan(cursor.getKey())
+            .or(Criteria.where("name").is(cursor.getKey())
+                .and("id").greaterThan(cursor.getId()));
+    }
+
+    public static Criteria fillRatioBelow(double threshold) {
+        return Criteria.where("fillRatio").lessThan(threshold);
+    }
+
+    public static Criteria afterFillRatio(Double fillRatio, UUID id) {
+        if (fillRatio == null) {
+            return null;
+        }
+        return Criteria.where("fillRatio").greaterThan(fillRatio)
+            .or(Criteria.where("fillRatio").is(fillRatio)
+                .and("id").greaterThan(id));
+    }
+
+}
@@ -0,0 +1,45 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+
+@Repository
+public interface ReactiveBeerRepository
+    extends R2dbcRepository<Beer, UUID>, ReactiveBeerRepositoryCustom {
+
+    Mono<Beer> findByName(String name);
+
+    @Query("select coalesce(sum(s.quantity), 0) as quantity, coalesce(sum(s.version), 0) as version"
+        + " from stock_shard s where s.beer_id = :beerId")
+    Mono<BeerShardTotals> findShardTotals(@Param("beerId") UUID beerId);
+
+    @Modifying
+    @Query("insert into stock_movement (id, beer_id, type, delta, created_at)"
+        + " values (next value for stock_movement_seq, :beerId, :type, :delta, :createdAt)")
+    Mono<Integer> insertMovement(@Param("beerId") UUID beerId, @Param("type") String type,
+        @Param("delta") int delta, @Param("createdAt") Instant createdAt);
+
+    @Modifying
+    @Query("update beer set quantity = quantity + :quantity, version = version + 1,"
+        + " fill_ratio = coalesce(cast(quantity + :quantity as double precision)"
+        + " / nullif(max, 0), 1.0)"
+        + " where id = :id and shards = 0 and quantity + :quantity <= max")
+    Mono<Integer> incrementQuantity(@Param("id") UUID id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update beer set quantity = quantity - :quantity, version = version + 1,"
+        + " fill_ratio = coalesce(cast(quantity - :quantity as double precision)"
+        + " / nullif(max, 0), 1.0)"
+        + " where id = :id and shards = 0 and quantity - reserved - :quantity >= 0")
+    Mono<Integer> decrementQuantity(@Param("id") UUID id, @Param("quantity") int quantity);
+
+}
@@ -0,0 +1,16 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Criteria;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+
+public interface ReactiveBeerRepositoryCustom {
+
+    Flux<Beer> findAll(Criteria criteria, Sort sort, int limit);
+
+    Mono<Beer> insert(Beer beer);
+
+}
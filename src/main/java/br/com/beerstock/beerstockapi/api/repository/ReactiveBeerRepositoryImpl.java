@@ -0,0 +1,34 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+
+public class ReactiveBeerRepositoryImpl implements ReactiveBeerRepositoryCustom {
+
+    private final R2dbcEntityOperations entityOperations;
+
+    @Autowired
+    public ReactiveBeerRepositoryImpl(R2dbcEntityOperations entityOperations) {
+        this.entityOperations = entityOperations;
+    }
+
+    @Override
+    public Flux<Beer> findAll(Criteria criteria, Sort sort, int limit) {
+        return this.entityOperations.select(Beer.class)
+            .matching(Query.query(criteria).sort(sort).limit(limit))
+            .all();
+    }
+
+    @Override
+    public Mono<Beer> insert(Beer beer) {
+        return this.entityOperations.insert(beer);
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.beerstock.beerstockapi.domain.entity.StockMovement;
+
+@Repository
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    List<StockMovement> findByBeerIdOrderByIdDesc(UUID beerId, Pageable pageable);
+
+    @Query("select coalesce((select s.quantity from StockSnapshot s where s.beerId = :beerId), 0)"
+        + " + coalesce(sum(m.delta), 0) from StockMovement m where m.beerId = :beerId")
+    long derivedQuantityByBeerId(@Param("beerId") UUID beerId);
+
+    @Query("select m.beerId as beerId, sum(m.delta) as delta, max(m.id) as lastMovementId"
+        + " from StockMovement m where m.createdAt < :cutoff group by m.beerId")
+    List<StockMovementTotal> sumDeltaByBeerIdBefore(@Param("cutoff") Instant cutoff);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from StockMovement m where m.createdAt < :cutoff")
+    int deleteAllBefore(@Param("cutoff") Instant cutoff);
+
+}
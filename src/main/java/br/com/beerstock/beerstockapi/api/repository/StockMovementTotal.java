@@ -0,0 +1,13 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.UUID;
+
+public interface StockMovementTotal {
+
+    UUID getBeerId();
+
+    long getDelta();
+
+    long getLastMovementId();
+
+}
@@ -0,0 +1,23 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.beerstock.beerstockapi.domain.entity.StockReservation;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, UUID> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from StockReservation r where r.id = :id")
+    int deleteReservation(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from StockReservation r where r.beerId = :beerId")
+    int deleteAllByBeerId(@Param("beerId") UUID beerId);
+
+}
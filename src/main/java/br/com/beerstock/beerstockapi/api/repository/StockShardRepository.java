@@ -0,0 +1,38 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.beerstock.beerstockapi.domain.entity.StockShard;
+
+@Repository
+public interface StockShardRepository
+    extends JpaRepository<StockShard, StockShard.Key>, StockShardRepositoryCustom {
+
+    @Query("select s from StockShard s where s.beerId = :beerId order by s.shard")
+    List<StockShard> findAllByBeerId(@Param("beerId") UUID beerId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from StockShard s where s.beerId = :beerId order by s.shard")
+    List<StockShard> findAllByBeerIdForUpdate(@Param("beerId") UUID beerId);
+
+    @Query("select s.beerId as beerId, sum(s.quantity) as quantity"
+        + " from StockShard s group by s.beerId")
+    List<BeerShardedStock> sumQuantityByBeerId();
+
+    @Query("select coalesce(sum(s.quantity), 0) as quantity, coalesce(sum(s.version), 0) as version"
+        + " from StockShard s where s.beerId = :beerId")
+    BeerShardTotals findTotalsByBeerId(@Param("beerId") UUID beerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from StockShard s where s.beerId = :beerId")
+    int deleteAllByBeerId(@Param("beerId") UUID beerId);
+
+}
@@ -0,0 +1,9 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.UUID;
+
+public interface StockShardRepositoryCustom {
+
+    boolean tryTakeQuantity(UUID beerId, int shard, int quantity);
+
+}
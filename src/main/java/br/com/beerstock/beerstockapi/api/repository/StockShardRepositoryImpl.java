@@ -0,0 +1,36 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.UUID;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+public class StockShardRepositoryImpl implements StockShardRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean tryTakeQuantity(UUID beerId, int shard, int quantity) {
+        Session session = this.entityManager.unwrap(Session.class);
+        Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+        int updatedRows = this.entityManager
+            .createQuery("update StockShard s set s.quantity = s.quantity - :quantity, s.version = s.version + 1"
+                + " where s.beerId = :beerId and s.shard = :shard and s.quantity >= :quantity")
+            .setParameter("beerId", beerId)
+            .setParameter("shard", shard)
+            .setParameter("quantity", quantity)
+            .executeUpdate();
+        session.doWork(connection -> {
+            if (updatedRows == 0) {
+                connection.rollback(savepoint);
+            } else {
+                connection.releaseSavepoint(savepoint);
+            }
+        });
+        return updatedRows > 0;
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.com.beerstock.beerstockapi.api.repository;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import br.com.beerstock.beerstockapi.domain.entity.StockSnapshot;
+
+@Repository
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, UUID> {
+
+}
@@ -0,0 +1,133 @@
+package br.com.beerstock.beerstockapi.domain.aggregates;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregateDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregatesDTO;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.api.repository.BeerStockAggregate;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+@Component
+public class StockAggregates {
+
+    private final BeerRepository beerRepository;
+    private volatile Aggregates current = new Aggregates();
+    private volatile Aggregates rebuilding;
+
+    @Autowired
+    public StockAggregates(BeerRepository beerRepository) {
+        this.beerRepository = beerRepository;
+        reconcile();
+    }
+
+    @Scheduled(
+        initialDelayString = "${beerstock.aggregates.reconcile-interval:60000}",
+        fixedDelayString = "${beerstock.aggregates.reconcile-interval:60000}")
+    public synchronized void reconcile() {
+        Aggregates rebuilt = new Aggregates();
+        this.rebuilding = rebuilt;
+        for (BeerStockAggregate aggregate : this.beerRepository.aggregateStockByTypeAndBrand()) {
+            rebuilt.add(aggregate.getType(), aggregate.getBrand(),
+                aggregate.getBeers(), aggregate.getUnits(), aggregate.getCapacity());
+        }
+        this.current = rebuilt;
+        this.rebuilding = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void apply(BeerChangedEvent event) {
+        BeerDTO beer = event.getBeer();
+        long units = event.getQuantityDelta();
+        switch (event.getType()) {
+            case CREATED:
+                add(beer, 1, units, beer.getMax());
+                break;
+            case DELETED:
+                add(beer, -1, units, -beer.getMax());
+                break;
+            default:
+                add(beer, 0, units, 0);
+        }
+    }
+
+    public StockAggregateDTO ofType(BeerType type) {
+        return this.current.byType.get(type).toDTO();
+    }
+
+    public StockAggregateDTO ofBrand(String brand) {
+        Counters counters = this.current.byBrand.get(brand);
+        return counters == null ? new StockAggregateDTO() : counters.toDTO();
+    }
+
+    public StockAggregatesDTO snapshot() {
+        Aggregates aggregates = this.current;
+        Map<BeerType, StockAggregateDTO> types = new EnumMap<>(BeerType.class);
+        aggregates.byType.forEach((type, counters) -> types.put(type, counters.toDTO()));
+        Map<String, StockAggregateDTO> brands = new TreeMap<>();
+        aggregates.byBrand.forEach((brand, counters) -> {
+            StockAggregateDTO aggregate = counters.toDTO();
+            if (aggregate.getBeers() > 0) {
+                brands.put(brand, aggregate);
+            }
+        });
+        return new StockAggregatesDTO(types, brands);
+    }
+
+    private void add(BeerDTO beer, long beers, long units, long capacity) {
+        Aggregates rebuilt = this.rebuilding;
+        Aggregates aggregates = this.current;
+        aggregates.add(beer.getType(), beer.getBrand(), beers, units, capacity);
+        if (rebuilt != null && rebuilt != aggregates) {
+            rebuilt.add(beer.getType(), beer.getBrand(), beers, units, capacity);
+        }
+    }
+
+    private static class Aggregates {
+
+        private final Map<BeerType, Counters> byType = new EnumMap<>(BeerType.class);
+        private final Map<String, Counters> byBrand = new ConcurrentHashMap<>();
+
+        Aggregates() {
+            for (BeerType type : BeerType.values()) {
+                this.byType.put(type, new Counters());
+            }
+        }
+
+        void add(BeerType type, String brand, long beers, long units, long capacity) {
+            this.byType.get(type).add(beers, units, capacity);
+            this.byBrand.computeIfAbsent(brand, key -> new Counters()).add(beers, units, capacity);
+        }
+
+    }
+
+    private static class Counters {
+
+        private final LongAdder beers = new LongAdder();
+        private final LongAdder units = new LongAdder();
+        private final LongAdder capacity = new LongAdder();
+
+        void add(long beers, long units, long capacity) {
+            this.beers.add(beers);
+            this.units.add(units);
+            this.capacity.add(capacity);
+        }
+
+        StockAggregateDTO toDTO() {
+            return new StockAggregateDTO(this.beers.sum(), this.units.sum(), this.capacity.sum());
+        }
+
+    }
+
+}
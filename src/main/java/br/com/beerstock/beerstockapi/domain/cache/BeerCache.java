@@ -0,0 +1,52 @@
+package br.com.beerstock.beerstockapi.domain.cache;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import br.com.beerstock.beerstockapi.api.configuration.CacheConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+
+@Component
+public class BeerCache {
+
+    private final Cache beersByName;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public BeerCache(CacheManager cacheManager) {
+        this.beersByName = cacheManager.getCache(CacheConfiguration.BEERS_BY_NAME_CACHE);
+    }
+
+    public Optional<BeerDTO> findByName(String name) {
+        return Optional.ofNullable(this.beersByName.get(name, BeerDTO.class));
+    }
+
+    public long readToken() {
+        return this.invalidations.get();
+    }
+
+    public void putIfNotInvalidatedSince(BeerDTO beerDTO, long readToken) {
+        if (this.invalidations.get() != readToken) {
+            return;
+        }
+        this.beersByName.put(beerDTO.getName(), beerDTO);
+        if (this.invalidations.get() != readToken) {
+            this.beersByName.evict(beerDTO.getName());
+        }
+    }
+
+    public void evict(BeerDTO beerDTO) {
+        evict(beerDTO.getName());
+    }
+
+    public void evict(String name) {
+        this.invalidations.incrementAndGet();
+        this.beersByName.evict(name);
+    }
+
+}
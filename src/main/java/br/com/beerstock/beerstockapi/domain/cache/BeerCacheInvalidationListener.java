@@ -0,0 +1,27 @@
+package br.com.beerstock.beerstockapi.domain.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import lombok.AllArgsConstructor;
+
+@Component
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerCacheInvalidationListener {
+
+    private final BeerCache beerCache;
+
+    @EventListener
+    public void evictOnWrite(BeerChangedEvent event) {
+        this.beerCache.evict(event.getBeer());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictAfterCommit(BeerChangedEvent event) {
+        this.beerCache.evict(event.getBeer());
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.com.beerstock.beerstockapi.domain.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    public <E extends Exception> V execute(K key, long generation, Loader<V, E> loader) throws E {
+        Flight<V> created = new Flight<>(generation, new CompletableFuture<>());
+        Flight<V> flight = this.flights.compute(key, (flightKey, existing) ->
+            existing != null && existing.getGeneration() == generation ? existing : created);
+        if (flight != created) {
+            return await(flight);
+        }
+        try {
+            V value = loader.load();
+            created.getResult().complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            created.getResult().completeExceptionally(e);
+            throw e;
+        } finally {
+            this.flights.remove(key, created);
+        }
+    }
+
+    public int inFlight() {
+        return this.flights.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> V await(Flight<V> flight) throws E {
+        try {
+            return flight.getResult().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+
+        V load() throws E;
+
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Flight<V> {
+
+        private final long generation;
+        private final CompletableFuture<V> result;
+
+    }
+
+}
@@ -6,22 +6,37 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+import javax.persistence.Table;
+import javax.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.identity.TimeOrderedUuidGenerator;
 
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+    @Index(name = "idx_beer_type_name", columnList = "type, name, id"),
+    @Index(name = "idx_beer_brand_name", columnList = "brand, name, id"),
+    @Index(name = "idx_beer_quantity", columnList = "quantity"),
+    @Index(name = "idx_beer_max", columnList = "max"),
+    @Index(name = "idx_beer_fill_ratio", columnList = "fillRatio, id")
+})
 public class Beer {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @org.springframework.data.annotation.Id
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -36,8 +51,31 @@ public class Beer {
     @Column(nullable = false)
     private int quantity;
 
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int reserved;
+
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int shards;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private BeerType type;
 
+    @Column(nullable = false, columnDefinition = "double precision default 1")
+    private double fillRatio;
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    @PrePersist
+    @PreUpdate
+    public void refreshFillRatio() {
+        this.fillRatio = fillRatioOf(this.quantity, this.max);
+    }
+
+    public static double fillRatioOf(int quantity, int max) {
+        return max > 0 ? (double) quantity / max : 1.0;
+    }
+
 }
@@ -0,0 +1,49 @@
+package br.com.beerstock.beerstockapi.domain.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+    @Index(name = "idx_stock_movement_beer_id", columnList = "beerId, id"),
+    @Index(name = "idx_stock_movement_created_at", columnList = "createdAt")
+})
+public class StockMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_movement_seq")
+    @SequenceGenerator(name = "stock_movement_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID beerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BeerChangeType type;
+
+    @Column(nullable = false)
+    private int delta;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+}
@@ -0,0 +1,48 @@
+package br.com.beerstock.beerstockapi.domain.entity;
+
+import java.io.Serializable;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(StockShard.Key.class)
+public class StockShard {
+
+    @Id
+    private UUID beerId;
+
+    @Id
+    private int shard;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    public void addQuantity(int delta) {
+        this.quantity += delta;
+        this.version++;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private UUID beerId;
+
+        private int shard;
+
+    }
+
+}
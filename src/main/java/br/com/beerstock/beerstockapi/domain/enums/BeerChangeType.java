@@ -0,0 +1,9 @@
+package br.com.beerstock.beerstockapi.domain.enums;
+
+public enum BeerChangeType {
+
+    CREATED,
+    STOCK_CHANGED,
+    DELETED;
+
+}
@@ -0,0 +1,10 @@
+package br.com.beerstock.beerstockapi.domain.enums;
+
+public enum IdempotencyOutcome {
+
+    APPLIED,
+    BEER_NOT_FOUND,
+    STOCK_EXCEEDED,
+    STOCK_LESS_THAN_ZERO;
+
+}
@@ -0,0 +1,27 @@
+package br.com.beerstock.beerstockapi.domain.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ImportFormat {
+
+    JSON(MediaType.APPLICATION_JSON_VALUE),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    public static Optional<ImportFormat> fromContentType(MediaType mediaType) {
+        return Arrays.stream(values())
+            .filter(format -> MediaType.parseMediaType(format.getContentType())
+                .isCompatibleWith(mediaType))
+            .findFirst();
+    }
+
+}
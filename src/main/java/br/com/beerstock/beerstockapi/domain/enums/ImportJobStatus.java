@@ -0,0 +1,10 @@
+package br.com.beerstock.beerstockapi.domain.enums;
+
+public enum ImportJobStatus {
+
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+}
@@ -0,0 +1,8 @@
+package br.com.beerstock.beerstockapi.domain.enums;
+
+public enum StockAdjustmentMode {
+
+    ATOMIC,
+    PER_ITEM;
+
+}
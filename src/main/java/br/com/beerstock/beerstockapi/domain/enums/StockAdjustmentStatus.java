@@ -0,0 +1,10 @@
+package br.com.beerstock.beerstockapi.domain.enums;
+
+public enum StockAdjustmentStatus {
+
+    APPLIED,
+    NOT_FOUND,
+    EXCEEDED,
+    BELOW_ZERO;
+
+}
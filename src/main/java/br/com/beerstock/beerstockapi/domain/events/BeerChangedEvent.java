@@ -0,0 +1,43 @@
+package br.com.beerstock.beerstockapi.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.With;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class BeerChangedEvent {
+
+    private final BeerChangeType type;
+
+    private final BeerDTO beer;
+
+    private final int quantityDelta;
+
+    private final boolean sharded;
+
+    @With
+    private final boolean recorded;
+
+    public static BeerChangedEvent created(BeerDTO beer) {
+        return new BeerChangedEvent(BeerChangeType.CREATED, beer, beer.getQuantity(), false, false);
+    }
+
+    public static BeerChangedEvent stockChanged(BeerDTO beer, int quantityDelta) {
+        return new BeerChangedEvent(BeerChangeType.STOCK_CHANGED, beer, quantityDelta, false, false);
+    }
+
+    public static BeerChangedEvent shardedStockChanged(BeerDTO beer, int quantityDelta) {
+        return new BeerChangedEvent(BeerChangeType.STOCK_CHANGED, beer, quantityDelta, true, false);
+    }
+
+    public static BeerChangedEvent deleted(BeerDTO beer) {
+        return new BeerChangedEvent(BeerChangeType.DELETED, beer, -beer.getQuantity(), false, false);
+    }
+
+}
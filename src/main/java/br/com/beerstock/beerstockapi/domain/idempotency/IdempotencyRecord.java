@@ -0,0 +1,85 @@
+package br.com.beerstock.beerstockapi.domain.idempotency;
+
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.domain.enums.IdempotencyOutcome;
+
+@Getter
+@AllArgsConstructor
+class IdempotencyRecord {
+
+    private final String operation;
+    private final UUID beerId;
+    private final int quantity;
+    private final IdempotencyOutcome outcome;
+    private final BeerDTO beerDTO;
+
+    static IdempotencyRecord applied(String operation, UUID beerId, int quantity, BeerDTO beerDTO) {
+        return new IdempotencyRecord(operation, beerId, quantity, IdempotencyOutcome.APPLIED, beerDTO);
+    }
+
+    static IdempotencyRecord failed(String operation, UUID beerId, int quantity, Throwable error) {
+        IdempotencyOutcome outcome;
+        if (error instanceof BeerNotFoundException) {
+            outcome = IdempotencyOutcome.BEER_NOT_FOUND;
+        } else if (error instanceof BeerStockExceededException) {
+            outcome = IdempotencyOutcome.STOCK_EXCEEDED;
+        } else {
+            outcome = IdempotencyOutcome.STOCK_LESS_THAN_ZERO;
+        }
+        return new IdempotencyRecord(operation, beerId, quantity, outcome, null);
+    }
+
+    static IdempotencyRecord of(String operation, UUID beerId, int quantity,
+        String outcome, String result, ObjectMapper objectMapper) {
+        try {
+            return new IdempotencyRecord(operation, beerId, quantity, IdempotencyOutcome.valueOf(outcome),
+                result == null ? null : objectMapper.readValue(result, BeerDTO.class));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static boolean isStockFailure(Throwable error) {
+        return error instanceof BeerNotFoundException
+            || error instanceof BeerStockExceededException
+            || error instanceof StockLessThenZeroException;
+    }
+
+    boolean matches(String operation, UUID beerId, int quantity) {
+        return this.operation.equals(operation) && this.beerId.equals(beerId) && this.quantity == quantity;
+    }
+
+    String resultOf(ObjectMapper objectMapper) {
+        try {
+            return this.beerDTO == null ? null : objectMapper.writeValueAsString(this.beerDTO);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    BeerDTO replay()
+        throws BeerNotFoundException, BeerStockExceededException, StockLessThenZeroException {
+        switch (this.outcome) {
+            case BEER_NOT_FOUND:
+                throw new BeerNotFoundException(this.beerId);
+            case STOCK_EXCEEDED:
+                throw new BeerStockExceededException(this.beerId, this.quantity);
+            case STOCK_LESS_THAN_ZERO:
+                throw new StockLessThenZeroException(this.beerId, this.quantity);
+            default:
+                return this.beerDTO;
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package br.com.beerstock.beerstockapi.domain.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.IdempotencyKeyReusedException;
+import br.com.beerstock.beerstockapi.api.exception.IdempotentRequestInProgressException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+
+@Component
+public class IdempotencyStore {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String INCREMENT = "increment";
+    public static final String DECREMENT = "decrement";
+
+    private static final String DELETE_EXPIRED_SQL =
+        "delete from idempotency_key where idempotency_key = ? and expires_at <= ?";
+    private static final String CLAIM_SQL = "insert into idempotency_key"
+        + " (idempotency_key, operation, beer_id, quantity, expires_at) values (?, ?, ?, ?, ?)";
+    private static final String COMPLETE_SQL =
+        "update idempotency_key set outcome = ?, result = ? where idempotency_key = ?";
+    private static final String FIND_SQL = "select operation, beer_id, quantity, outcome, result"
+        + " from idempotency_key where idempotency_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration expireAfterWrite;
+
+    @Autowired
+    public IdempotencyStore(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        ObjectMapper objectMapper,
+        @Value("${beerstock.idempotency.expire-after-write:1h}") Duration expireAfterWrite) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public BeerDTO execute(String key, String operation, UUID id, int quantity, StockOperation stockOperation)
+        throws BeerNotFoundException, BeerStockExceededException, StockLessThenZeroException,
+        IdempotencyKeyReusedException, IdempotentRequestInProgressException {
+        if (key == null) {
+            return stockOperation.apply();
+        }
+        IdempotencyRecord record;
+        try {
+            record = this.transactionTemplate.execute(
+                status -> claimAndApply(key, operation, id, quantity, stockOperation));
+        } catch (DuplicateKeyException e) {
+            record = find(key);
+        } catch (PessimisticLockingFailureException e) {
+            throw new IdempotentRequestInProgressException(key);
+        }
+        if (record == null) {
+            throw new IdempotentRequestInProgressException(key);
+        }
+        if (!record.matches(operation, id, quantity)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        return record.replay();
+    }
+
+    @Scheduled(
+        initialDelayString = "${beerstock.idempotency.purge-interval:60000}",
+        fixedDelayString = "${beerstock.idempotency.purge-interval:60000}")
+    public void purgeExpired() {
+        this.jdbcTemplate.update("delete from idempotency_key where expires_at <= ?",
+            Timestamp.from(Instant.now()));
+    }
+
+    private IdempotencyRecord claimAndApply(
+        String key, String operation, UUID id, int quantity, StockOperation stockOperation) {
+        Instant now = Instant.now();
+        this.jdbcTemplate.update(DELETE_EXPIRED_SQL, key, Timestamp.from(now));
+        this.jdbcTemplate.update(CLAIM_SQL,
+            key, operation, id, quantity, Timestamp.from(now.plus(this.expireAfterWrite)));
+        IdempotencyRecord record;
+        try {
+            record = IdempotencyRecord.applied(operation, id, quantity, stockOperation.apply());
+        } catch (BeerNotFoundException | BeerStockExceededException | StockLessThenZeroException e) {
+            record = IdempotencyRecord.failed(operation, id, quantity, e);
+        }
+        this.jdbcTemplate.update(COMPLETE_SQL,
+            record.getOutcome().name(), record.resultOf(this.objectMapper), key);
+        return record;
+    }
+
+    private IdempotencyRecord find(String key) {
+        return this.jdbcTemplate.query(FIND_SQL, resultSet -> resultSet.next()
+            ? IdempotencyRecord.of(resultSet.getString("operation"),
+                resultSet.getObject("beer_id", UUID.class), resultSet.getInt("quantity"),
+                resultSet.getString("outcome"), resultSet.getString("result"), this.objectMapper)
+            : null, key);
+    }
+
+    @FunctionalInterface
+    public interface StockOperation {
+
+        BeerDTO apply()
+            throws BeerNotFoundException, BeerStockExceededException, StockLessThenZeroException;
+
+    }
+
+}
@@ -0,0 +1,135 @@
+package br.com.beerstock.beerstockapi.domain.idempotency;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.exception.IdempotencyKeyReusedException;
+import br.com.beerstock.beerstockapi.api.exception.IdempotentRequestInProgressException;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+@Component
+@Profile(ReactiveConfiguration.REACTIVE_PROFILE)
+public class ReactiveIdempotencyStore {
+
+    private static final String DELETE_EXPIRED_SQL =
+        "delete from idempotency_key where idempotency_key = :key and expires_at <= :now";
+    private static final String CLAIM_SQL = "insert into idempotency_key"
+        + " (idempotency_key, operation, beer_id, quantity, expires_at)"
+        + " values (:key, :operation, :beerId, :quantity, :expiresAt)";
+    private static final String COMPLETE_SQL =
+        "update idempotency_key set outcome = :outcome, result = :result where idempotency_key = :key";
+    private static final String FIND_SQL = "select operation, beer_id, quantity, outcome, result"
+        + " from idempotency_key where idempotency_key = :key";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectMapper objectMapper;
+    private final Duration expireAfterWrite;
+
+    @Autowired
+    public ReactiveIdempotencyStore(
+        DatabaseClient databaseClient,
+        TransactionalOperator transactionalOperator,
+        ObjectMapper objectMapper,
+        @Value("${beerstock.idempotency.expire-after-write:1h}") Duration expireAfterWrite) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.objectMapper = objectMapper;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public Mono<BeerDTO> execute(String key, String operation, UUID id, int quantity,
+        Mono<BeerChangedEvent> change, Function<BeerChangedEvent, Mono<BeerDTO>> publish) {
+        if (key == null) {
+            return change.as(this.transactionalOperator::transactional).flatMap(publish);
+        }
+        return claimAndApply(key, operation, id, quantity, change)
+            .as(this.transactionalOperator::transactional)
+            .onErrorResume(DataIntegrityViolationException.class, e -> find(key).map(Attempt::new))
+            .onErrorMap(PessimisticLockingFailureException.class,
+                e -> new IdempotentRequestInProgressException(key))
+            .switchIfEmpty(Mono.error(() -> new IdempotentRequestInProgressException(key)))
+            .flatMap(attempt -> {
+                IdempotencyRecord record = attempt.getRecord();
+                if (!record.matches(operation, id, quantity)) {
+                    return Mono.error(new IdempotencyKeyReusedException(key));
+                }
+                return attempt.getChange() != null
+                    ? publish.apply(attempt.getChange())
+                    : Mono.fromCallable(record::replay);
+            });
+    }
+
+    private Mono<Attempt> claimAndApply(
+        String key, String operation, UUID id, int quantity, Mono<BeerChangedEvent> change) {
+        return Mono.defer(() -> {
+            Instant now = Instant.now();
+            return this.databaseClient.sql(DELETE_EXPIRED_SQL)
+                .bind("key", key)
+                .bind("now", now)
+                .then()
+                .then(this.databaseClient.sql(CLAIM_SQL)
+                    .bind("key", key)
+                    .bind("operation", operation)
+                    .bind("beerId", id)
+                    .bind("quantity", quantity)
+                    .bind("expiresAt", now.plus(this.expireAfterWrite))
+                    .then())
+                .then(change
+                    .map(event -> new Attempt(
+                        IdempotencyRecord.applied(operation, id, quantity, event.getBeer()), event))
+                    .onErrorResume(IdempotencyRecord::isStockFailure, error -> Mono.just(
+                        new Attempt(IdempotencyRecord.failed(operation, id, quantity, error)))))
+                .flatMap(attempt -> complete(key, attempt.getRecord()).thenReturn(attempt));
+        });
+    }
+
+    private Mono<Void> complete(String key, IdempotencyRecord record) {
+        String result = record.resultOf(this.objectMapper);
+        DatabaseClient.GenericExecuteSpec spec = this.databaseClient.sql(COMPLETE_SQL)
+            .bind("outcome", record.getOutcome().name())
+            .bind("key", key);
+        return (result == null ? spec.bindNull("result", String.class) : spec.bind("result", result))
+            .then();
+    }
+
+    private Mono<IdempotencyRecord> find(String key) {
+        return this.databaseClient.sql(FIND_SQL)
+            .bind("key", key)
+            .map(row -> IdempotencyRecord.of(row.get("operation", String.class),
+                row.get("beer_id", UUID.class), row.get("quantity", Integer.class),
+                row.get("outcome", String.class), row.get("result", String.class), this.objectMapper))
+            .one();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Attempt {
+
+        private final IdempotencyRecord record;
+        private final BeerChangedEvent change;
+
+        Attempt(IdempotencyRecord record) {
+            this(record, null);
+        }
+
+    }
+
+}
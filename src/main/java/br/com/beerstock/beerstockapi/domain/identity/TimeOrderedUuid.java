@@ -0,0 +1,52 @@
+package br.com.beerstock.beerstockapi.domain.identity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TimeOrderedUuid {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final TimeOrderedUuid SYSTEM = new TimeOrderedUuid(System::currentTimeMillis);
+
+    private final AtomicLong lastTick = new AtomicLong();
+
+    private final LongSupplier clock;
+
+    public TimeOrderedUuid(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static UUID next() {
+        return SYSTEM.generate();
+    }
+
+    public UUID generate() {
+        long tick = nextTick();
+        long mostSignificantBits = (tick >>> COUNTER_BITS) << 16
+            | VERSION
+            | tick & ((1L << COUNTER_BITS) - 1);
+        long leastSignificantBits = VARIANT | ThreadLocalRandom.current().nextLong() & RANDOM_MASK;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private long nextTick() {
+        long tick = this.clock.getAsLong() << COUNTER_BITS;
+        while (true) {
+            long last = this.lastTick.get();
+            long next = tick > last ? tick : last + 1;
+            if (this.lastTick.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package br.com.beerstock.beerstockapi.domain.identity;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "time-ordered-uuid";
+    public static final String STRATEGY =
+        "br.com.beerstock.beerstockapi.domain.identity.TimeOrderedUuidGenerator";
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return TimeOrderedUuid.next();
+    }
+
+}
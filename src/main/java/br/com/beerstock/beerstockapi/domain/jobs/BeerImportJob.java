@@ -0,0 +1,73 @@
+package br.com.beerstock.beerstockapi.domain.jobs;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerImportJobDTO;
+import br.com.beerstock.beerstockapi.domain.enums.ImportFormat;
+import br.com.beerstock.beerstockapi.domain.enums.ImportJobStatus;
+
+@Getter
+public class BeerImportJob {
+
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private final UUID id = UUID.randomUUID();
+    private final ImportFormat format;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+    private volatile ImportJobStatus status = ImportJobStatus.PENDING;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public BeerImportJob(ImportFormat format) {
+        this.format = format;
+    }
+
+    public void start() {
+        this.startedAt = Instant.now();
+        this.status = ImportJobStatus.RUNNING;
+    }
+
+    public void finish(ImportJobStatus finalStatus) {
+        this.finishedAt = Instant.now();
+        this.status = finalStatus;
+    }
+
+    public void recordImported(int count) {
+        this.processed.addAndGet(count);
+        this.imported.addAndGet(count);
+    }
+
+    public void recordRejected(long row, String reason) {
+        this.processed.incrementAndGet();
+        this.rejected.incrementAndGet();
+        recordError(String.format("Row %d: %s", row, reason));
+    }
+
+    public synchronized void recordError(String error) {
+        if (this.errors.size() < MAX_REPORTED_ERRORS) {
+            this.errors.add(error);
+        }
+    }
+
+    public synchronized BeerImportJobDTO toBeerImportJobDTO() {
+        return BeerImportJobDTO.builder()
+            .id(this.id)
+            .status(this.status)
+            .processed(this.processed.get())
+            .imported(this.imported.get())
+            .rejected(this.rejected.get())
+            .errors(List.copyOf(this.errors))
+            .startedAt(this.startedAt)
+            .finishedAt(this.finishedAt)
+            .build();
+    }
+
+}
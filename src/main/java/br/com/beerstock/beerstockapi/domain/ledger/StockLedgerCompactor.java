@@ -0,0 +1,40 @@
+package br.com.beerstock.beerstockapi.domain.ledger;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.beerstock.beerstockapi.domain.services.StockLedgerService;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class StockLedgerCompactor {
+
+    private final StockLedgerService stockLedgerService;
+    private final Duration retention;
+
+    @Autowired
+    public StockLedgerCompactor(
+        StockLedgerService stockLedgerService,
+        @Value("${beerstock.ledger.retention:7d}") Duration retention) {
+        this.stockLedgerService = stockLedgerService;
+        this.retention = retention;
+    }
+
+    @Scheduled(
+        initialDelayString = "${beerstock.ledger.compaction-interval:600000}",
+        fixedDelayString = "${beerstock.ledger.compaction-interval:600000}")
+    public void compact() {
+        int compactedMovements = this.stockLedgerService.compact(Instant.now().minus(this.retention));
+        if (compactedMovements > 0) {
+            log.info("Compacted {} stock movements older than {} into snapshots",
+                compactedMovements, this.retention);
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package br.com.beerstock.beerstockapi.domain.limits;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import br.com.beerstock.beerstockapi.api.configuration.MetricsConfiguration;
+
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private long lastDecreaseNanos;
+    private final Counter increases;
+    private final Counter decreases;
+    private final Counter rejections;
+
+    public AimdConcurrencyLimiter(
+        String budget,
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double backoffRatio,
+        Duration latencyThreshold,
+        MeterRegistry meterRegistry) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+        this.lastDecreaseNanos = System.nanoTime();
+        Gauge.builder(MetricsConfiguration.CONCURRENCY_LIMIT, this, AimdConcurrencyLimiter::getLimit)
+            .tag("budget", budget)
+            .register(meterRegistry);
+        Gauge.builder(MetricsConfiguration.CONCURRENCY_IN_FLIGHT, this.inFlight, AtomicInteger::get)
+            .tag("budget", budget)
+            .register(meterRegistry);
+        this.increases = Counter.builder(MetricsConfiguration.CONCURRENCY_LIMIT_CHANGES)
+            .tag("budget", budget)
+            .tag("direction", "up")
+            .register(meterRegistry);
+        this.decreases = Counter.builder(MetricsConfiguration.CONCURRENCY_LIMIT_CHANGES)
+            .tag("budget", budget)
+            .tag("direction", "down")
+            .register(meterRegistry);
+        this.rejections = Counter.builder(MetricsConfiguration.CONCURRENCY_REJECTIONS)
+            .tag("budget", budget)
+            .register(meterRegistry);
+    }
+
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= this.limit) {
+                this.rejections.increment();
+                return Optional.empty();
+            }
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(current + 1, System.nanoTime()));
+            }
+        }
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    private synchronized void onSample(
+        int inFlightAtStart, long startNanos, long latencyNanos, boolean dropped) {
+        int currentLimit = this.limit;
+        if (dropped || latencyNanos > this.latencyThresholdNanos) {
+            if (startNanos - this.lastDecreaseNanos < 0) {
+                return;
+            }
+            int decreasedLimit = Math.max(this.minLimit, (int) (currentLimit * this.backoffRatio));
+            if (decreasedLimit < currentLimit) {
+                this.limit = decreasedLimit;
+                this.lastDecreaseNanos = System.nanoTime();
+                this.decreases.increment();
+            }
+        } else if (inFlightAtStart * 2 >= currentLimit && currentLimit < this.maxLimit) {
+            this.limit = currentLimit + 1;
+            this.increases.increment();
+        }
+    }
+
+    public class Permit {
+
+        private final int inFlightAtStart;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart, long startNanos) {
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        public void release(boolean dropped) {
+            if (this.released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                onSample(this.inFlightAtStart, this.startNanos,
+                    System.nanoTime() - this.startNanos, dropped);
+            }
+        }
+
+        public void releaseWithoutSample() {
+            if (this.released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+            }
+        }
+
+    }
+
+}
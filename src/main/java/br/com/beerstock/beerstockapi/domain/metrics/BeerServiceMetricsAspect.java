@@ -0,0 +1,97 @@
+package br.com.beerstock.beerstockapi.domain.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import br.com.beerstock.beerstockapi.api.configuration.MetricsConfiguration;
+import br.com.beerstock.beerstockapi.api.exception.BeerAlreadyRegisteredException;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.InvalidCursorException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BeerServiceMetricsAspect {
+
+    public static final String SUCCESS = "success";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<AtomicInteger> dbCalls = new ThreadLocal<>();
+
+    @Autowired
+    public BeerServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * br.com.beerstock.beerstockapi.domain.services.BeerService.*(..))")
+    public Object timeOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        AtomicInteger outerDbCalls = this.dbCalls.get();
+        AtomicInteger operationDbCalls = new AtomicInteger();
+        this.dbCalls.set(operationDbCalls);
+        String outcome = SUCCESS;
+        Timer.Sample sample = Timer.start(this.meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(MetricsConfiguration.OPERATIONS_TIMER)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(this.meterRegistry));
+            DistributionSummary.builder(MetricsConfiguration.OPERATION_DB_CALLS)
+                .tag("operation", operation)
+                .register(this.meterRegistry)
+                .record(operationDbCalls.get());
+            this.dbCalls.set(outerDbCalls);
+        }
+    }
+
+    @Around("target(br.com.beerstock.beerstockapi.api.repository.BeerRepository)")
+    public Object countRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        AtomicInteger operationDbCalls = this.dbCalls.get();
+        if (operationDbCalls != null) {
+            operationDbCalls.incrementAndGet();
+        }
+        Counter.builder(MetricsConfiguration.REPOSITORY_CALLS)
+            .tag("method", joinPoint.getSignature().getName())
+            .register(this.meterRegistry)
+            .increment();
+        return joinPoint.proceed();
+    }
+
+    static String outcomeOf(Throwable e) {
+        if (e instanceof BeerNotFoundException) {
+            return "not-found";
+        }
+        if (e instanceof BeerStockExceededException) {
+            return "exceeded";
+        }
+        if (e instanceof StockLessThenZeroException) {
+            return "below-zero";
+        }
+        if (e instanceof BeerAlreadyRegisteredException) {
+            return "already-registered";
+        }
+        if (e instanceof InvalidCursorException) {
+            return "invalid-cursor";
+        }
+        return "error";
+    }
+
+}
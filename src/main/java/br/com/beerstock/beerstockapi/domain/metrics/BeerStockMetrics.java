@@ -0,0 +1,67 @@
+package br.com.beerstock.beerstockapi.domain.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.beerstock.beerstockapi.api.configuration.MetricsConfiguration;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.api.repository.BeerTypeStock;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+@Component
+public class BeerStockMetrics {
+
+    private final BeerRepository beerRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<BeerType, AtomicLong> stockByType = new EnumMap<>(BeerType.class);
+
+    @Autowired
+    public BeerStockMetrics(BeerRepository beerRepository, MeterRegistry meterRegistry) {
+        this.beerRepository = beerRepository;
+        this.meterRegistry = meterRegistry;
+        for (BeerType type : BeerType.values()) {
+            AtomicLong stock = new AtomicLong();
+            this.stockByType.put(type, stock);
+            Gauge.builder(MetricsConfiguration.STOCK_QUANTITY, stock, AtomicLong::get)
+                .tag("type", type.name())
+                .baseUnit("beers")
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${beerstock.metrics.stock-refresh-interval:30000}")
+    public void refreshStock() {
+        Map<BeerType, Long> refreshedStock = new EnumMap<>(BeerType.class);
+        for (BeerTypeStock typeStock : this.beerRepository.sumQuantityByType()) {
+            refreshedStock.put(typeStock.getType(), typeStock.getQuantity());
+        }
+        this.stockByType.forEach((type, stock) -> stock.set(refreshedStock.getOrDefault(type, 0L)));
+    }
+
+    public long stockOf(BeerType type) {
+        return this.stockByType.get(type).get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void recordTransition(BeerChangedEvent event) {
+        int quantityDelta = event.getQuantityDelta();
+        DistributionSummary.builder(MetricsConfiguration.STOCK_TRANSITIONS)
+            .tag("change", event.getType().name())
+            .tag("type", event.getBeer().getType().name())
+            .tag("direction", quantityDelta < 0 ? "out" : "in")
+            .baseUnit("beers")
+            .register(this.meterRegistry)
+            .record(Math.abs(quantityDelta));
+    }
+
+}
@@ -0,0 +1,45 @@
+package br.com.beerstock.beerstockapi.domain.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import br.com.beerstock.beerstockapi.api.exception.InvalidCursorException;
+
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class Cursor {
+
+    private static final int UUID_LENGTH = 36;
+    private static final char SEPARATOR = ':';
+
+    private final String key;
+
+    private final UUID id;
+
+    public String encode() {
+        String rawCursor = this.id.toString() + SEPARATOR + this.key;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String encodedCursor) throws InvalidCursorException {
+        if (encodedCursor == null || encodedCursor.isBlank()) {
+            return null;
+        }
+        try {
+            String rawCursor = new String(
+                Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+            if (rawCursor.length() <= UUID_LENGTH || rawCursor.charAt(UUID_LENGTH) != SEPARATOR) {
+                throw new InvalidCursorException(encodedCursor);
+            }
+            UUID id = UUID.fromString(rawCursor.substring(0, UUID_LENGTH));
+            return new Cursor(rawCursor.substring(UUID_LENGTH + 1), id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(encodedCursor);
+        }
+    }
+
+}
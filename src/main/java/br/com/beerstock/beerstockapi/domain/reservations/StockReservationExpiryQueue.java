@@ -0,0 +1,50 @@
+package br.com.beerstock.beerstockapi.domain.reservations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class StockReservationExpiryQueue {
+
+    private final DelayQueue<ExpiringReservation> reservations = new DelayQueue<>();
+
+    public void schedule(UUID id, Instant expiresAt) {
+        this.reservations.put(new ExpiringReservation(id, expiresAt));
+    }
+
+    public UUID take() throws InterruptedException {
+        return this.reservations.take().getId();
+    }
+
+    public int size() {
+        return this.reservations.size();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class ExpiringReservation implements Delayed {
+
+        private final UUID id;
+        private final Instant expiresAt;
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(), this.expiresAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return this.expiresAt.compareTo(((ExpiringReservation) other).getExpiresAt());
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.com.beerstock.beerstockapi.domain.reservations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import br.com.beerstock.beerstockapi.api.repository.StockReservationRepository;
+import br.com.beerstock.beerstockapi.domain.services.StockReservationService;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class StockReservationSweeper {
+
+    private final StockReservationExpiryQueue expiryQueue;
+    private final StockReservationService stockReservationService;
+    private final StockReservationRepository stockReservationRepository;
+    private final Duration retryDelay;
+    private final Thread sweeperThread;
+
+    @Autowired
+    public StockReservationSweeper(
+        StockReservationExpiryQueue expiryQueue,
+        StockReservationService stockReservationService,
+        StockReservationRepository stockReservationRepository,
+        @Value("${beerstock.reservations.sweep-retry-delay:5s}") Duration retryDelay) {
+        this.expiryQueue = expiryQueue;
+        this.stockReservationService = stockReservationService;
+        this.stockReservationRepository = stockReservationRepository;
+        this.retryDelay = retryDelay;
+        this.sweeperThread = new Thread(this::sweep, "stock-reservation-sweeper");
+        this.sweeperThread.setDaemon(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.stockReservationRepository.findAll().forEach(reservation ->
+            this.expiryQueue.schedule(reservation.getId(), reservation.getExpiresAt()));
+        this.sweeperThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.sweeperThread.interrupt();
+    }
+
+    private void sweep() {
+        while (!Thread.currentThread().isInterrupted()) {
+            UUID id;
+            try {
+                id = this.expiryQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                this.stockReservationService.expire(id);
+            } catch (RuntimeException e) {
+                log.warn("Failed to expire stock reservation {}, retrying in {}", id, this.retryDelay, e);
+                this.expiryQueue.schedule(id, Instant.now().plus(this.retryDelay));
+            }
+        }
+    }
+
+}
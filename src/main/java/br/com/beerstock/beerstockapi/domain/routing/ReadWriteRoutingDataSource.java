@@ -0,0 +1,39 @@
+package br.com.beerstock.beerstockapi.domain.routing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagGuard replicaLagGuard;
+
+    public ReadWriteRoutingDataSource(
+        DataSource primary, List<? extends DataSource> replicas, ReplicaLagGuard replicaLagGuard) {
+        this.replicaLagGuard = replicaLagGuard;
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            targetDataSources.put(replica, replicas.get(replica));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || ReadYourWrites.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        return this.replicaLagGuard.nextReplica().<Object>map(replica -> replica).orElse(PRIMARY);
+    }
+
+}
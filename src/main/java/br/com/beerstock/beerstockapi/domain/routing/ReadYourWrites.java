@@ -0,0 +1,105 @@
+package br.com.beerstock.beerstockapi.domain.routing;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+@Component
+public class ReadYourWrites {
+
+    public static final String LAST_WRITE_COOKIE = "beerstock-last-write";
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Writer> WRITER = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentlyWrittenNames;
+    private final Duration window;
+
+    @Autowired
+    public ReadYourWrites(@Value("${beerstock.datasource.read-your-writes-window:2s}") Duration window) {
+        this.window = window;
+        this.recentlyWrittenNames = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .build();
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+
+    public static void bindWriter(Long lastWriteMillis, LongConsumer onWrite) {
+        WRITER.set(new Writer(lastWriteMillis, onWrite));
+    }
+
+    public static void unbindWriter() {
+        WRITER.remove();
+    }
+
+    public Duration getWindow() {
+        return this.window;
+    }
+
+    public boolean isCatalogPinned() {
+        Writer writer = WRITER.get();
+        return writer != null && writer.lastWriteMillis != null
+            && System.currentTimeMillis() - writer.lastWriteMillis < this.window.toMillis();
+    }
+
+    public <T> T readByName(String name, Supplier<T> read) {
+        return this.recentlyWrittenNames.getIfPresent(name) != null ? onPrimary(read) : read.get();
+    }
+
+    public <T> T readCatalog(Supplier<T> read) {
+        return isCatalogPinned() ? onPrimary(read) : read.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void recordWrite(BeerChangedEvent event) {
+        this.recentlyWrittenNames.put(event.getBeer().getName(), true);
+        Writer writer = WRITER.get();
+        if (writer != null) {
+            writer.recordWrite(System.currentTimeMillis());
+        }
+    }
+
+    private static <T> T onPrimary(Supplier<T> read) {
+        boolean outerPrimaryRequired = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(true);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_REQUIRED.set(outerPrimaryRequired);
+        }
+    }
+
+    private static class Writer {
+
+        private final LongConsumer onWrite;
+        private Long lastWriteMillis;
+        private boolean written;
+
+        Writer(Long lastWriteMillis, LongConsumer onWrite) {
+            this.lastWriteMillis = lastWriteMillis;
+            this.onWrite = onWrite;
+        }
+
+        void recordWrite(long writeMillis) {
+            this.lastWriteMillis = writeMillis;
+            if (!this.written) {
+                this.written = true;
+                this.onWrite.accept(writeMillis);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package br.com.beerstock.beerstockapi.domain.routing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import br.com.beerstock.beerstockapi.api.configuration.MetricsConfiguration;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ReplicaLagGuard {
+
+    private final List<? extends DataSource> replicaDataSources;
+    private final List<JdbcTemplate> replicas = new ArrayList<>();
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private final AtomicReferenceArray<Double> lagSeconds;
+    private final AtomicReference<List<Integer>> healthyReplicas = new AtomicReference<>(List.of());
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaLagGuard(
+        List<? extends DataSource> replicas,
+        String lagQuery,
+        Duration maxLag,
+        MeterRegistry meterRegistry) {
+        this.replicaDataSources = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.lagSeconds = new AtomicReferenceArray<>(replicas.size());
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            this.replicas.add(new JdbcTemplate(replicas.get(replica)));
+            this.lagSeconds.set(replica, Double.NaN);
+            int index = replica;
+            Gauge.builder(MetricsConfiguration.REPLICA_LAG, this, guard -> guard.lagSeconds.get(index))
+                .tag("replica", Integer.toString(replica))
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        }
+    }
+
+    public List<? extends DataSource> getReplicas() {
+        return this.replicaDataSources;
+    }
+
+    public Optional<Integer> nextReplica() {
+        List<Integer> healthy = this.healthyReplicas.get();
+        if (healthy.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(healthy.get(Math.floorMod(this.next.getAndIncrement(), healthy.size())));
+    }
+
+    @Scheduled(
+        initialDelay = 0,
+        fixedDelayString = "${beerstock.datasource.replica-lag-check-interval:1000}")
+    public void check() {
+        List<Integer> healthy = new ArrayList<>(this.replicas.size());
+        for (int replica = 0; replica < this.replicas.size(); replica++) {
+            try {
+                Double lag = this.replicas.get(replica).queryForObject(this.lagQuery, Double.class);
+                this.lagSeconds.set(replica, lag == null ? Double.NaN : lag);
+            } catch (DataAccessException e) {
+                this.lagSeconds.set(replica, Double.NaN);
+                log.warn("Failed to read the lag of replica {}", replica, e);
+            }
+            if (this.lagSeconds.get(replica) <= this.maxLagSeconds) {
+                healthy.add(replica);
+            }
+        }
+        List<Integer> previous = this.healthyReplicas.getAndSet(List.copyOf(healthy));
+        if (!previous.equals(healthy)) {
+            log.info("Routing reads to replicas {} of {}", healthy, this.replicas.size());
+        }
+    }
+
+    public void close() throws IOException {
+        for (DataSource replica : this.replicaDataSources) {
+            if (replica instanceof Closeable) {
+                ((Closeable) replica).close();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.ExportFormat;
+import lombok.AllArgsConstructor;
+
+@Service
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerExportService {
+
+    public static final int CLEAR_INTERVAL = 1000;
+    private static final String CSV_HEADER = "id,name,brand,max,quantity,type";
+
+    private final BeerRepository beerRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = this.objectMapper.writerFor(BeerDTO.class);
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<Beer> beers = this.beerRepository.streamAll()) {
+            Iterator<Beer> iterator = beers.iterator();
+            int writtenRows = 0;
+            while (iterator.hasNext()) {
+                BeerDTO beerDTO = this.beerMapper.toBeerDTO(iterator.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, beerDTO);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(beerDTO));
+                }
+                writer.write('\n');
+                if (++writtenRows % CLEAR_INTERVAL == 0) {
+                    writer.flush();
+                    this.entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, BeerDTO beerDTO) throws IOException {
+        writer.write(String.valueOf(beerDTO.getId()));
+        writer.write(',');
+        writer.write(escapeCsv(beerDTO.getName()));
+        writer.write(',');
+        writer.write(escapeCsv(beerDTO.getBrand()));
+        writer.write(',');
+        writer.write(String.valueOf(beerDTO.getMax()));
+        writer.write(',');
+        writer.write(String.valueOf(beerDTO.getQuantity()));
+        writer.write(',');
+        writer.write(String.valueOf(beerDTO.getType()));
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+            && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
@@ -0,0 +1,146 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.beerstock.beerstockapi.api.configuration.AsyncConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.ImportFormat;
+import br.com.beerstock.beerstockapi.domain.enums.ImportJobStatus;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import br.com.beerstock.beerstockapi.domain.jobs.BeerImportJob;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerImportJobRunner {
+
+    public static final int CHUNK_SIZE = 1000;
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final BeerRepository beerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    @Async(AsyncConfiguration.IMPORT_TASK_EXECUTOR)
+    public void run(BeerImportJob job, Path file) {
+        job.start();
+        try (InputStream inputStream = Files.newInputStream(file);
+            MappingIterator<BeerDTO> rows = readerFor(job.getFormat()).readValues(inputStream)) {
+            long rowNumber = 0;
+            List<BeerDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<Long> chunkRowNumbers = new ArrayList<>(CHUNK_SIZE);
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                chunkRowNumbers.add(++rowNumber);
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(job, chunk, chunkRowNumbers);
+                    chunk.clear();
+                    chunkRowNumbers.clear();
+                }
+            }
+            importChunk(job, chunk, chunkRowNumbers);
+            job.finish(ImportJobStatus.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            log.error("Beer import job {} failed", job.getId(), e);
+            job.recordError(e.getMessage());
+            job.finish(ImportJobStatus.FAILED);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private ObjectReader readerFor(ImportFormat format) {
+        if (format == ImportFormat.CSV) {
+            return CSV_MAPPER.readerFor(BeerDTO.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        }
+        return this.objectMapper.readerFor(BeerDTO.class);
+    }
+
+    private void importChunk(BeerImportJob job, List<BeerDTO> chunk, List<Long> rowNumbers) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> existingNames = this.beerRepository.findExistingNames(
+            chunk.stream().map(BeerDTO::getName).collect(Collectors.toSet()));
+        Set<String> chunkNames = new HashSet<>();
+        List<Beer> beersToImport = new ArrayList<>(chunk.size());
+        List<Long> rowNumbersToImport = new ArrayList<>(chunk.size());
+        for (int index = 0; index < chunk.size(); index++) {
+            BeerDTO beerDTO = chunk.get(index);
+            String rejection = validate(beerDTO, existingNames, chunkNames);
+            if (rejection != null) {
+                job.recordRejected(rowNumbers.get(index), rejection);
+                continue;
+            }
+            Beer beer = this.beerMapper.toBeer(beerDTO);
+            beer.setId(null);
+            beersToImport.add(beer);
+            rowNumbersToImport.add(rowNumbers.get(index));
+        }
+        try {
+            this.transactionTemplate.executeWithoutResult(status -> this.beerRepository
+                .saveAll(beersToImport)
+                .forEach(beer -> this.eventPublisher.publishEvent(
+                    BeerChangedEvent.created(this.beerMapper.toBeerDTO(beer)))));
+            job.recordImported(beersToImport.size());
+        } catch (DataIntegrityViolationException e) {
+            rowNumbersToImport.forEach(rowNumber -> job.recordRejected(rowNumber,
+                "chunk rejected by a concurrent registration of one of its names"));
+        }
+    }
+
+    private String validate(BeerDTO beerDTO, Set<String> existingNames, Set<String> chunkNames) {
+        Set<ConstraintViolation<BeerDTO>> violations = this.validator.validate(beerDTO);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        }
+        if (existingNames.contains(beerDTO.getName()) || !chunkNames.add(beerDTO.getName())) {
+            return String.format(
+                "Beer with name %s already registered in the system.", beerDTO.getName());
+        }
+        return null;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.UUID;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerImportJobDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerImportJobNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerImportRejectedException;
+import br.com.beerstock.beerstockapi.domain.enums.ImportFormat;
+import br.com.beerstock.beerstockapi.domain.enums.ImportJobStatus;
+import br.com.beerstock.beerstockapi.domain.jobs.BeerImportJob;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class BeerImportService {
+
+    private final BeerImportJobRunner beerImportJobRunner;
+    private final Cache<UUID, BeerImportJob> jobs;
+
+    @Autowired
+    public BeerImportService(
+        BeerImportJobRunner beerImportJobRunner,
+        @Value("${beerstock.imports.maximum-jobs:1000}") long maximumJobs,
+        @Value("${beerstock.imports.expire-after-write:1h}") Duration expireAfterWrite) {
+        this.beerImportJobRunner = beerImportJobRunner;
+        this.jobs = Caffeine.newBuilder()
+            .maximumSize(maximumJobs)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+    }
+
+    public BeerImportJobDTO startImport(ImportFormat format, InputStream body)
+        throws IOException, BeerImportRejectedException {
+        Path file = Files.createTempFile("beer-import-", "." + format.name().toLowerCase());
+        BeerImportJob job = new BeerImportJob(format);
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            this.jobs.put(job.getId(), job);
+            this.beerImportJobRunner.run(job, file);
+        } catch (TaskRejectedException e) {
+            deleteQuietly(file);
+            job.recordError(e.getMessage());
+            job.finish(ImportJobStatus.FAILED);
+            throw new BeerImportRejectedException();
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        return job.toBeerImportJobDTO();
+    }
+
+    public BeerImportJobDTO findJobById(UUID id) throws BeerImportJobNotFoundException {
+        BeerImportJob job = this.jobs.getIfPresent(id);
+        if (job == null) {
+            throw new BeerImportJobNotFoundException(id);
+        }
+        return job.toBeerImportJobDTO();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+}
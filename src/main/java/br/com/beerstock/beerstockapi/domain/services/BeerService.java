@@ -1,29 +1,61 @@
 package br.com.beerstock.beerstockapi.domain.services;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregatesDTO;
 import br.com.beerstock.beerstockapi.api.exception.BeerAlreadyRegisteredException;
 import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
 import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.InvalidCursorException;
 import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
 import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
 import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.api.repository.BeerShardTotals;
+import br.com.beerstock.beerstockapi.api.repository.BeerSpecifications;
+import br.com.beerstock.beerstockapi.domain.aggregates.StockAggregates;
+import br.com.beerstock.beerstockapi.domain.cache.BeerCache;
+import br.com.beerstock.beerstockapi.domain.cache.SingleFlight;
 import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import br.com.beerstock.beerstockapi.domain.pagination.Cursor;
+import br.com.beerstock.beerstockapi.domain.routing.ReadYourWrites;
+import br.com.beerstock.beerstockapi.domain.versioning.CatalogVersion;
 import lombok.AllArgsConstructor;
 
 @Service
 @AllArgsConstructor(onConstructor = @__(@Autowired))
 public class BeerService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    static final Sort CATALOG_SORT = Sort.by("name", "id");
+    static final Sort LOW_STOCK_SORT = Sort.by("fillRatio", "id");
+
     private final BeerRepository beerRepository;
+    private final BeerCache beerCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogVersion catalogVersion;
+    private final StockAggregates stockAggregates;
+    private final StockShardService stockShardService;
+    private final ReadYourWrites readYourWrites;
     private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+    private final SingleFlight<String, BeerDTO> beerByNameFlights = new SingleFlight<>();
+    private final SingleFlight<List<Object>, BeerPageDTO> catalogPageFlights = new SingleFlight<>();
 
     private Beer verifyIfExistsById(UUID id) throws BeerNotFoundException {
        return this.beerRepository.findById(id)
@@ -37,53 +69,177 @@ public class BeerService {
         }
     }
 
+    @Transactional
     public BeerDTO createBeer(BeerDTO beerDTO) throws BeerAlreadyRegisteredException {
         verifyIfIsAlreadyRegistered(beerDTO.getName());
         Beer beer = this.beerMapper.toBeer(beerDTO);
         Beer savedBeer = this.beerRepository.save(beer);
-        return this.beerMapper.toBeerDTO(savedBeer);
+        BeerDTO savedBeerDTO = this.beerMapper.toBeerDTO(savedBeer);
+        this.eventPublisher.publishEvent(BeerChangedEvent.created(savedBeerDTO));
+        return savedBeerDTO;
     }
 
     public BeerDTO findByName(String name) throws BeerNotFoundException {
-        Beer beer = this.beerRepository.findByName(name)
-            .orElseThrow(() -> new BeerNotFoundException(name));
-        return this.beerMapper.toBeerDTO(beer);
+        Optional<BeerDTO> cachedBeerDTO = this.beerCache.findByName(name);
+        if (cachedBeerDTO.isPresent()) {
+            return cachedBeerDTO.get();
+        }
+        long readToken = this.beerCache.readToken();
+        return this.beerByNameFlights.execute(name, readToken, () -> {
+            BeerDTO beerDTO = this.readYourWrites.readByName(name, () -> loadByName(name))
+                .orElseThrow(() -> new BeerNotFoundException(name));
+            this.beerCache.putIfNotInvalidatedSince(beerDTO, readToken);
+            return beerDTO;
+        });
     }
 
-    public List<BeerDTO> findAll() {
-        return this.beerRepository.findAll()
-            .stream()
-            .map(this.beerMapper::toBeerDTO)
+    private Optional<BeerDTO> loadByName(String name) {
+        return this.beerRepository.findByName(name).map(beer -> {
+            BeerDTO beerDTO = this.beerMapper.toBeerDTO(beer);
+            if (beer.getShards() > 0) {
+                BeerShardTotals totals = this.stockShardService.totalsOf(beer);
+                beerDTO.setQuantity(totals.getQuantity().intValue());
+                beerDTO.setVersion(beer.getVersion() + totals.getVersion());
+            }
+            return beerDTO;
+        });
+    }
+
+    public static String versionTagOf(BeerDTO beerDTO) {
+        return beerDTO.getId() + "." + beerDTO.getVersion();
+    }
+
+    public StockAggregatesDTO findStockAggregates() {
+        return this.stockAggregates.snapshot();
+    }
+
+    public BeerPageDTO findAll(BeerFilterDTO filter, String cursor, int size)
+        throws InvalidCursorException {
+        int pageSize = pageSizeOf(size);
+        return this.catalogPageFlights.execute(
+            Arrays.asList(filter, cursor, pageSize, this.readYourWrites.isCatalogPinned()),
+            this.beerCache.readToken(), () -> {
+                Specification<Beer> specification = filterSpecification(filter)
+                    .and(BeerSpecifications.afterName(Cursor.decode(cursor)));
+                return this.readYourWrites.readCatalog(() -> this.catalogVersion.readTagged(
+                    () -> toBeerPage(this.beerRepository.findAll(
+                        specification, CATALOG_SORT, pageSize + 1), pageSize)));
+            });
+    }
+
+    public BeerPageDTO findLowStock(double belowPercent, BeerFilterDTO filter, String cursor, int size)
+        throws InvalidCursorException {
+        int pageSize = pageSizeOf(size);
+        Cursor lowStockCursor = Cursor.decode(cursor);
+        Specification<Beer> specification = filterSpecification(filter)
+            .and(BeerSpecifications.fillRatioBelow(belowPercent / 100))
+            .and(BeerSpecifications.afterFillRatio(fillRatioOf(lowStockCursor, cursor),
+                lowStockCursor == null ? null : lowStockCursor.getId()));
+        List<Beer> beers = this.readYourWrites.readCatalog(() -> this.beerRepository
+            .findAll(specification, LOW_STOCK_SORT, pageSize + 1));
+        return toBeerPage(beers, pageSize, BeerService::lowStockCursorOf);
+    }
+
+    private static Specification<Beer> filterSpecification(BeerFilterDTO filter) {
+        return Specification
+            .where(BeerSpecifications.hasType(filter.getType()))
+            .and(BeerSpecifications.hasBrand(filter.getBrand()))
+            .and(BeerSpecifications.quantityBetween(filter.getQuantityFrom(), filter.getQuantityTo()))
+            .and(BeerSpecifications.maxBetween(filter.getMaxFrom(), filter.getMaxTo()));
+    }
+
+    static Double fillRatioOf(Cursor lowStockCursor, String cursor)
+        throws InvalidCursorException {
+        if (lowStockCursor == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(lowStockCursor.getKey());
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    static Cursor lowStockCursorOf(Beer beer) {
+        return Cursor.of(Double.toString(beer.getFillRatio()), beer.getId());
+    }
+
+    static int pageSizeOf(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    static BeerPageDTO toBeerPage(List<Beer> beers, int pageSize) {
+        return toBeerPage(beers, pageSize, beer -> Cursor.of(beer.getName(), beer.getId()));
+    }
+
+    static BeerPageDTO toBeerPage(List<Beer> beers, int pageSize, Function<Beer, Cursor> cursorOf) {
+        boolean hasNext = beers.size() > pageSize;
+        List<Beer> pageBeers = hasNext ? beers.subList(0, pageSize) : beers;
+        String next = null;
+        if (hasNext) {
+            next = cursorOf.apply(pageBeers.get(pageBeers.size() - 1)).encode();
+        }
+        List<BeerDTO> items = pageBeers.stream()
+            .map(BeerMapper.INSTANCE::toBeerDTO)
             .collect(Collectors.toList());
+        return new BeerPageDTO(items, next, null);
     }
 
+    @Transactional
     public void deleteById(UUID id) throws BeerNotFoundException {
-        verifyIfExistsById(id);
-        this.beerRepository.deleteById(id);
+        Beer beerToDelete = this.beerRepository.findAllByIdForUpdate(List.of(id))
+            .stream()
+            .findFirst()
+            .orElseThrow(() -> new BeerNotFoundException(id));
+        BeerDTO deletedBeerDTO = this.beerMapper.toBeerDTO(beerToDelete);
+        if (beerToDelete.getShards() > 0) {
+            deletedBeerDTO.setQuantity(this.stockShardService.lockQuantity(beerToDelete));
+        }
+        this.beerRepository.deleteBeerById(id);
+        this.eventPublisher.publishEvent(BeerChangedEvent.deleted(deletedBeerDTO));
     }
 
+    @Transactional
     public BeerDTO increment(UUID id, int quantityToIncrement)
         throws BeerNotFoundException, BeerStockExceededException {
-        Beer beerToIncrementStock = verifyIfExistsById(id);
-        int quantityAfterIncrement = quantityToIncrement + beerToIncrementStock.getQuantity();
-        if (quantityAfterIncrement <= beerToIncrementStock.getMax()) {
-            beerToIncrementStock.setQuantity(quantityAfterIncrement);
-            Beer incrementBeerStock = this.beerRepository.save(beerToIncrementStock);
-            return this.beerMapper.toBeerDTO(incrementBeerStock);
+        int updatedRows = this.beerRepository.incrementQuantity(id, quantityToIncrement);
+        if (updatedRows == 0) {
+            Beer beer = verifyIfExistsById(id);
+            if (beer.getShards() == 0) {
+                throw new BeerStockExceededException(id, quantityToIncrement);
+            }
+            return publishShardedStockChanged(beer,
+                this.stockShardService.increment(beer, quantityToIncrement), quantityToIncrement);
         }
-        throw new BeerStockExceededException(id, quantityToIncrement);
+        return publishStockChanged(verifyIfExistsById(id), quantityToIncrement);
     }
 
+    @Transactional
     public BeerDTO decrement(UUID id, int quantityToDecrement)
         throws BeerNotFoundException, StockLessThenZeroException {
-        Beer beerToDecrementStock = verifyIfExistsById(id);
-        int quantityAfterDecrement = beerToDecrementStock.getQuantity() - quantityToDecrement;
-        if (quantityAfterDecrement >= 0) {
-            beerToDecrementStock.setQuantity(quantityAfterDecrement);
-            Beer decrementedBeerStock = this.beerRepository.save(beerToDecrementStock);
-            return this.beerMapper.toBeerDTO(decrementedBeerStock);
+        int updatedRows = this.beerRepository.decrementQuantity(id, quantityToDecrement);
+        if (updatedRows == 0) {
+            Beer beer = verifyIfExistsById(id);
+            if (beer.getShards() == 0) {
+                throw new StockLessThenZeroException(id, quantityToDecrement);
+            }
+            return publishShardedStockChanged(beer,
+                this.stockShardService.decrement(beer, quantityToDecrement), -quantityToDecrement);
         }
-        throw new StockLessThenZeroException(id, quantityToDecrement);
+        return publishStockChanged(verifyIfExistsById(id), -quantityToDecrement);
+    }
+
+    private BeerDTO publishStockChanged(Beer beer, int quantityDelta) {
+        BeerDTO beerDTO = this.beerMapper.toBeerDTO(beer);
+        this.eventPublisher.publishEvent(BeerChangedEvent.stockChanged(beerDTO, quantityDelta));
+        return beerDTO;
+    }
+
+    private BeerDTO publishShardedStockChanged(Beer beer, int quantity, int quantityDelta) {
+        BeerDTO beerDTO = this.beerMapper.toBeerDTO(beer);
+        beerDTO.setQuantity(quantity);
+        this.eventPublisher.publishEvent(BeerChangedEvent.shardedStockChanged(beerDTO, quantityDelta));
+        return beerDTO;
     }
 
 }
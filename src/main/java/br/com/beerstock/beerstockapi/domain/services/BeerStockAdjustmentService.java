@@ -0,0 +1,108 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentResultDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentMode;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentStatus;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import lombok.AllArgsConstructor;
+
+@Service
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class BeerStockAdjustmentService {
+
+    private final BeerRepository beerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockShardService stockShardService;
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    @Transactional(rollbackFor = Exception.class)
+    public List<StockAdjustmentResultDTO> adjust(
+        List<StockAdjustmentDTO> adjustments, StockAdjustmentMode mode)
+        throws BeerNotFoundException, BeerStockExceededException, StockLessThenZeroException {
+        Set<UUID> ids = adjustments.stream()
+            .map(StockAdjustmentDTO::getId)
+            .collect(Collectors.toSet());
+        Map<UUID, Beer> beers = this.beerRepository.findAllByIdForUpdate(ids)
+            .stream()
+            .collect(Collectors.toMap(Beer::getId, Function.identity()));
+        List<StockAdjustmentResultDTO> results = new ArrayList<>(adjustments.size());
+        Map<UUID, Integer> appliedDeltas = new LinkedHashMap<>();
+        for (StockAdjustmentDTO adjustment : adjustments) {
+            StockAdjustmentResultDTO result = apply(beers.get(adjustment.getId()), adjustment);
+            if (mode == StockAdjustmentMode.ATOMIC) {
+                verifyIfWasApplied(result);
+            }
+            if (result.getStatus() == StockAdjustmentStatus.APPLIED) {
+                appliedDeltas.merge(result.getId(), result.getDelta(), Integer::sum);
+            }
+            results.add(result);
+        }
+        appliedDeltas.forEach((id, delta) -> this.eventPublisher.publishEvent(
+            BeerChangedEvent.stockChanged(this.beerMapper.toBeerDTO(beers.get(id)), delta)));
+        return results;
+    }
+
+    private StockAdjustmentResultDTO apply(Beer beer, StockAdjustmentDTO adjustment) {
+        StockAdjustmentResultDTO result = StockAdjustmentResultDTO.builder()
+            .id(adjustment.getId())
+            .delta(adjustment.getDelta())
+            .build();
+        if (beer == null) {
+            result.setStatus(StockAdjustmentStatus.NOT_FOUND);
+            return result;
+        }
+        if (beer.getShards() > 0) {
+            beer.setQuantity(this.stockShardService.lockQuantity(beer));
+        }
+        int quantityAfterAdjustment = beer.getQuantity() + adjustment.getDelta();
+        if (quantityAfterAdjustment > beer.getMax()) {
+            result.setStatus(StockAdjustmentStatus.EXCEEDED);
+        } else if (quantityAfterAdjustment < beer.getReserved()) {
+            result.setStatus(StockAdjustmentStatus.BELOW_ZERO);
+        } else {
+            if (beer.getShards() > 0) {
+                this.stockShardService.adjust(beer, adjustment.getDelta());
+            }
+            beer.setQuantity(quantityAfterAdjustment);
+            result.setStatus(StockAdjustmentStatus.APPLIED);
+        }
+        result.setQuantity(beer.getQuantity());
+        return result;
+    }
+
+    private void verifyIfWasApplied(StockAdjustmentResultDTO result)
+        throws BeerNotFoundException, BeerStockExceededException, StockLessThenZeroException {
+        switch (result.getStatus()) {
+            case NOT_FOUND:
+                throw new BeerNotFoundException(result.getId());
+            case EXCEEDED:
+                throw new BeerStockExceededException(result.getId(), result.getDelta());
+            case BELOW_ZERO:
+                throw new StockLessThenZeroException(result.getId(), -result.getDelta());
+            default:
+                break;
+        }
+    }
+
+}
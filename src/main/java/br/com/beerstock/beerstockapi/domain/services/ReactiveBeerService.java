@@ -0,0 +1,253 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregatesDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerAlreadyRegisteredException;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.InvalidCursorException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.ReactiveBeerCriteria;
+import br.com.beerstock.beerstockapi.api.repository.ReactiveBeerRepository;
+import br.com.beerstock.beerstockapi.domain.aggregates.StockAggregates;
+import br.com.beerstock.beerstockapi.domain.cache.BeerCache;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import br.com.beerstock.beerstockapi.domain.idempotency.IdempotencyStore;
+import br.com.beerstock.beerstockapi.domain.idempotency.ReactiveIdempotencyStore;
+import br.com.beerstock.beerstockapi.domain.identity.TimeOrderedUuid;
+import br.com.beerstock.beerstockapi.domain.pagination.Cursor;
+import br.com.beerstock.beerstockapi.domain.versioning.CatalogVersion;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Profile(ReactiveConfiguration.REACTIVE_PROFILE)
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class ReactiveBeerService {
+
+    private final ReactiveBeerRepository beerRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final BeerCache beerCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogVersion catalogVersion;
+    private final StockAggregates stockAggregates;
+    private final StockShardService stockShardService;
+    private final ReactiveIdempotencyStore idempotencyStore;
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    private Mono<Beer> verifyIfExistsById(UUID id) {
+        return this.beerRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new BeerNotFoundException(id)));
+    }
+
+    public Mono<BeerDTO> createBeer(BeerDTO beerDTO) {
+        return this.beerRepository.findByName(beerDTO.getName())
+            .flatMap(savedBeer -> Mono.<Beer>error(
+                new BeerAlreadyRegisteredException(beerDTO.getName())))
+            .switchIfEmpty(Mono.defer(() -> {
+                Beer beer = this.beerMapper.toBeer(beerDTO);
+                beer.setId(TimeOrderedUuid.next());
+                beer.refreshFillRatio();
+                return this.beerRepository.insert(beer);
+            }))
+            .flatMap(savedBeer -> recordMovement(savedBeer, BeerChangeType.CREATED, savedBeer.getQuantity()))
+            .as(this.transactionalOperator::transactional)
+            .map(this.beerMapper::toBeerDTO)
+            .flatMap(savedBeerDTO -> publish(BeerChangedEvent.created(savedBeerDTO), savedBeerDTO));
+    }
+
+    public Mono<BeerDTO> findByName(String name) {
+        return Mono.defer(() -> {
+            Optional<BeerDTO> cachedBeerDTO = this.beerCache.findByName(name);
+            if (cachedBeerDTO.isPresent()) {
+                return Mono.just(cachedBeerDTO.get());
+            }
+            long readToken = this.beerCache.readToken();
+            return this.beerRepository.findByName(name)
+                .switchIfEmpty(Mono.error(() -> new BeerNotFoundException(name)))
+                .flatMap(this::toShardedBeerDTO)
+                .doOnNext(beerDTO -> this.beerCache.putIfNotInvalidatedSince(beerDTO, readToken));
+        });
+    }
+
+    private Mono<BeerDTO> toShardedBeerDTO(Beer beer) {
+        BeerDTO beerDTO = this.beerMapper.toBeerDTO(beer);
+        if (beer.getShards() == 0) {
+            return Mono.just(beerDTO);
+        }
+        return this.beerRepository.findShardTotals(beer.getId())
+            .map(totals -> {
+                beerDTO.setQuantity(totals.getQuantity().intValue());
+                beerDTO.setVersion(beer.getVersion() + totals.getVersion());
+                return beerDTO;
+            });
+    }
+
+    public String catalogVersion() {
+        return this.catalogVersion.current();
+    }
+
+    public StockAggregatesDTO findStockAggregates() {
+        return this.stockAggregates.snapshot();
+    }
+
+    public Mono<BeerPageDTO> findAll(BeerFilterDTO filter, String cursor, int size) {
+        return Mono.defer(() -> {
+            Cursor decodedCursor;
+            try {
+                decodedCursor = Cursor.decode(cursor);
+            } catch (InvalidCursorException e) {
+                return Mono.error(e);
+            }
+            Criteria criteria = criteriaOf(filter,
+                ReactiveBeerCriteria.afterName(decodedCursor));
+            int pageSize = BeerService.pageSizeOf(size);
+            return this.beerRepository
+                .findAll(criteria, BeerService.CATALOG_SORT, pageSize + 1)
+                .collectList()
+                .map(beers -> BeerService.toBeerPage(beers, pageSize));
+        });
+    }
+
+    public Mono<BeerPageDTO> findLowStock(
+        double belowPercent, BeerFilterDTO filter, String cursor, int size) {
+        return Mono.defer(() -> {
+            Cursor decodedCursor;
+            Double cursorFillRatio;
+            try {
+                decodedCursor = Cursor.decode(cursor);
+                cursorFillRatio = BeerService.fillRatioOf(decodedCursor, cursor);
+            } catch (InvalidCursorException e) {
+                return Mono.error(e);
+            }
+            Criteria criteria = criteriaOf(filter,
+                ReactiveBeerCriteria.fillRatioBelow(belowPercent / 100),
+                ReactiveBeerCriteria.afterFillRatio(cursorFillRatio,
+                    decodedCursor == null ? null : decodedCursor.getId()));
+            int pageSize = BeerService.pageSizeOf(size);
+            return this.beerRepository
+                .findAll(criteria, BeerService.LOW_STOCK_SORT, pageSize + 1)
+                .collectList()
+                .map(beers -> BeerService.toBeerPage(beers, pageSize, BeerService::lowStockCursorOf));
+        });
+    }
+
+    private static Criteria criteriaOf(BeerFilterDTO filter, Criteria... pagingCriteria) {
+        return Criteria.from(Stream.concat(
+                Stream.of(
+                    ReactiveBeerCriteria.hasType(filter.getType()),
+                    ReactiveBeerCriteria.hasBrand(filter.getBrand()),
+                    ReactiveBeerCriteria.quantityBetween(
+                        filter.getQuantityFrom(), filter.getQuantityTo()),
+                    ReactiveBeerCriteria.maxBetween(filter.getMaxFrom(), filter.getMaxTo())),
+                Stream.of(pagingCriteria))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList()));
+    }
+
+    public Mono<Void> deleteById(UUID id) {
+        return verifyIfExistsById(id)
+            .flatMap(beer -> this.beerRepository.deleteById(id).thenReturn(beer))
+            .flatMap(beer -> recordMovement(beer, BeerChangeType.DELETED, -beer.getQuantity()))
+            .as(this.transactionalOperator::transactional)
+            .flatMap(deletedBeer -> publish(
+                BeerChangedEvent.deleted(this.beerMapper.toBeerDTO(deletedBeer)), deletedBeer))
+            .then();
+    }
+
+    public Mono<BeerDTO> increment(UUID id, int quantityToIncrement) {
+        return increment(id, quantityToIncrement, null);
+    }
+
+    public Mono<BeerDTO> increment(UUID id, int quantityToIncrement, String idempotencyKey) {
+        return this.idempotencyStore.execute(
+            idempotencyKey, IdempotencyStore.INCREMENT, id, quantityToIncrement,
+            this.beerRepository.incrementQuantity(id, quantityToIncrement)
+                .flatMap(updatedRows -> updatedRows == 0
+                    ? verifyIfExistsById(id).flatMap(beer -> beer.getShards() == 0
+                        ? Mono.<Beer>error(new BeerStockExceededException(id, quantityToIncrement))
+                        : onShards(beer, () -> this.stockShardService.increment(beer, quantityToIncrement)))
+                    : verifyIfExistsById(id))
+                .flatMap(beer -> recordMovement(beer, BeerChangeType.STOCK_CHANGED, quantityToIncrement))
+                .map(beer -> stockChanged(beer, quantityToIncrement)),
+            event -> publish(event, event.getBeer()));
+    }
+
+    public Mono<BeerDTO> decrement(UUID id, int quantityToDecrement) {
+        return decrement(id, quantityToDecrement, null);
+    }
+
+    public Mono<BeerDTO> decrement(UUID id, int quantityToDecrement, String idempotencyKey) {
+        return this.idempotencyStore.execute(
+            idempotencyKey, IdempotencyStore.DECREMENT, id, quantityToDecrement,
+            this.beerRepository.decrementQuantity(id, quantityToDecrement)
+                .flatMap(updatedRows -> updatedRows == 0
+                    ? verifyIfExistsById(id).flatMap(beer -> beer.getShards() == 0
+                        ? Mono.<Beer>error(new StockLessThenZeroException(id, quantityToDecrement))
+                        : onShards(beer, () -> this.stockShardService.decrement(beer, quantityToDecrement)))
+                    : verifyIfExistsById(id))
+                .flatMap(beer -> recordMovement(beer, BeerChangeType.STOCK_CHANGED, -quantityToDecrement))
+                .map(beer -> stockChanged(beer, -quantityToDecrement)),
+            event -> publish(event, event.getBeer()));
+    }
+
+    private static Mono<Beer> onShards(Beer beer, Callable<Integer> shardedOperation) {
+        return Mono.fromCallable(() -> {
+                beer.setQuantity(shardedOperation.call());
+                return beer;
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Beer> recordMovement(Beer beer, BeerChangeType type, int quantityDelta) {
+        if (quantityDelta == 0) {
+            return Mono.just(beer);
+        }
+        return this.beerRepository
+            .insertMovement(beer.getId(), type.name(), quantityDelta, Instant.now())
+            .thenReturn(beer);
+    }
+
+    private BeerChangedEvent stockChanged(Beer beer, int quantityDelta) {
+        BeerDTO beerDTO = this.beerMapper.toBeerDTO(beer);
+        return beer.getShards() > 0
+            ? BeerChangedEvent.shardedStockChanged(beerDTO, quantityDelta)
+            : BeerChangedEvent.stockChanged(beerDTO, quantityDelta);
+    }
+
+    private <T> Mono<T> publish(BeerChangedEvent event, T result) {
+        return Mono.fromRunnable(() -> this.eventPublisher.publishEvent(event.withRecorded(true)))
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(RuntimeException.class, e -> {
+                log.warn("Failed to handle the committed {} change of beer {}",
+                    event.getType(), event.getBeer().getId(), e);
+                return Mono.empty();
+            })
+            .thenReturn(result);
+    }
+
+}
@@ -0,0 +1,92 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockLedgerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockMovementDTO;
+import br.com.beerstock.beerstockapi.api.repository.StockMovementRepository;
+import br.com.beerstock.beerstockapi.api.repository.StockMovementTotal;
+import br.com.beerstock.beerstockapi.api.repository.StockSnapshotRepository;
+import br.com.beerstock.beerstockapi.domain.entity.StockMovement;
+import br.com.beerstock.beerstockapi.domain.entity.StockSnapshot;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import lombok.AllArgsConstructor;
+
+@Service
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class StockLedgerService {
+
+    public static final int DEFAULT_MOVEMENTS_SIZE = 50;
+    public static final int MAX_MOVEMENTS_SIZE = 500;
+
+    private final StockMovementRepository stockMovementRepository;
+    private final StockSnapshotRepository stockSnapshotRepository;
+
+    @EventListener
+    @Transactional
+    public void record(BeerChangedEvent event) {
+        if (event.isRecorded() || event.getQuantityDelta() == 0) {
+            return;
+        }
+        this.stockMovementRepository.save(new StockMovement(
+            null, event.getBeer().getId(), event.getType(), event.getQuantityDelta(), Instant.now()));
+    }
+
+    @Transactional(readOnly = true)
+    public StockLedgerDTO findLedger(UUID beerId, int size) {
+        int movementsSize = Math.min(Math.max(size, 1), MAX_MOVEMENTS_SIZE);
+        Optional<StockSnapshot> snapshot = this.stockSnapshotRepository.findById(beerId);
+        List<StockMovementDTO> movements = this.stockMovementRepository
+            .findByBeerIdOrderByIdDesc(beerId, PageRequest.of(0, movementsSize))
+            .stream()
+            .map(movement -> StockMovementDTO.builder()
+                .id(movement.getId())
+                .type(movement.getType())
+                .delta(movement.getDelta())
+                .createdAt(movement.getCreatedAt())
+                .build())
+            .collect(Collectors.toList());
+        return StockLedgerDTO.builder()
+            .beerId(beerId)
+            .quantity(this.stockMovementRepository.derivedQuantityByBeerId(beerId))
+            .snapshotQuantity(snapshot.map(StockSnapshot::getQuantity).orElse(0L))
+            .snapshotTakenAt(snapshot.map(StockSnapshot::getTakenAt).orElse(null))
+            .movements(movements)
+            .build();
+    }
+
+    @Transactional
+    public int compact(Instant cutoff) {
+        List<StockMovementTotal> totals = this.stockMovementRepository.sumDeltaByBeerIdBefore(cutoff);
+        if (totals.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, StockSnapshot> snapshots = this.stockSnapshotRepository
+            .findAllById(totals.stream().map(StockMovementTotal::getBeerId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(StockSnapshot::getBeerId, Function.identity()));
+        Instant takenAt = Instant.now();
+        for (StockMovementTotal total : totals) {
+            StockSnapshot snapshot = snapshots.computeIfAbsent(total.getBeerId(),
+                beerId -> new StockSnapshot(beerId, 0, 0, takenAt));
+            snapshot.setQuantity(snapshot.getQuantity() + total.getDelta());
+            snapshot.setLastMovementId(Math.max(snapshot.getLastMovementId(), total.getLastMovementId()));
+            snapshot.setTakenAt(takenAt);
+        }
+        this.stockSnapshotRepository.saveAll(snapshots.values());
+        return this.stockMovementRepository.deleteAllBefore(cutoff);
+    }
+
+}
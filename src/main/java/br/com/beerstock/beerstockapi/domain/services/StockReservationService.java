@@ -0,0 +1,121 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockReservationDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.exception.StockReservationNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.StockShardingConflictException;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.api.repository.StockReservationRepository;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.entity.StockReservation;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import br.com.beerstock.beerstockapi.domain.reservations.StockReservationExpiryQueue;
+import lombok.AllArgsConstructor;
+
+@Service
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class StockReservationService {
+
+    private final BeerRepository beerRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockReservationExpiryQueue expiryQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    private Beer verifyIfExistsById(UUID id) throws BeerNotFoundException {
+        return this.beerRepository.findById(id)
+            .orElseThrow(() -> new BeerNotFoundException(id));
+    }
+
+    private StockReservation claim(UUID id) throws StockReservationNotFoundException {
+        StockReservation reservation = this.stockReservationRepository.findById(id)
+            .orElseThrow(() -> new StockReservationNotFoundException(id));
+        if (this.stockReservationRepository.deleteReservation(id) == 0) {
+            throw new StockReservationNotFoundException(id);
+        }
+        return reservation;
+    }
+
+    @Transactional
+    public StockReservationDTO reserve(UUID beerId, int quantityToReserve, Duration ttl)
+        throws BeerNotFoundException, StockLessThenZeroException, StockShardingConflictException {
+        int updatedRows = this.beerRepository.reserveQuantity(beerId, quantityToReserve);
+        if (updatedRows == 0) {
+            if (verifyIfExistsById(beerId).getShards() > 0) {
+                throw new StockShardingConflictException(beerId);
+            }
+            throw new StockLessThenZeroException(beerId, quantityToReserve);
+        }
+        StockReservation reservation = this.stockReservationRepository.save(
+            new StockReservation(null, beerId, quantityToReserve, Instant.now().plus(ttl)));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                StockReservationService.this.expiryQueue.schedule(
+                    reservation.getId(), reservation.getExpiresAt());
+            }
+        });
+        return StockReservationDTO.builder()
+            .id(reservation.getId())
+            .beerId(reservation.getBeerId())
+            .quantity(reservation.getQuantity())
+            .expiresAt(reservation.getExpiresAt())
+            .build();
+    }
+
+    @Transactional
+    public BeerDTO commit(UUID id)
+        throws StockReservationNotFoundException, BeerNotFoundException {
+        StockReservation reservation = claim(id);
+        if (reservation.getExpiresAt().isBefore(Instant.now())) {
+            this.beerRepository.releaseQuantity(reservation.getBeerId(), reservation.getQuantity());
+            throw new StockReservationNotFoundException(id);
+        }
+        this.beerRepository.commitReservedQuantity(reservation.getBeerId(), reservation.getQuantity());
+        BeerDTO beerDTO = this.beerMapper.toBeerDTO(verifyIfExistsById(reservation.getBeerId()));
+        this.eventPublisher.publishEvent(
+            BeerChangedEvent.stockChanged(beerDTO, -reservation.getQuantity()));
+        return beerDTO;
+    }
+
+    @Transactional
+    public void release(UUID id) throws StockReservationNotFoundException {
+        StockReservation reservation = claim(id);
+        this.beerRepository.releaseQuantity(reservation.getBeerId(), reservation.getQuantity());
+    }
+
+    @Transactional
+    public boolean expire(UUID id) {
+        try {
+            release(id);
+            return true;
+        } catch (StockReservationNotFoundException e) {
+            return false;
+        }
+    }
+
+    @EventListener
+    @Transactional
+    public void discardReservations(BeerChangedEvent event) {
+        if (event.getType() == BeerChangeType.DELETED) {
+            this.stockReservationRepository.deleteAllByBeerId(event.getBeer().getId());
+        }
+    }
+
+}
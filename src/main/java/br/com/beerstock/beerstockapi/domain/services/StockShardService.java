@@ -0,0 +1,235 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockShardsDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.exception.StockShardingConflictException;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.api.repository.BeerShardTotals;
+import br.com.beerstock.beerstockapi.api.repository.BeerShardedStock;
+import br.com.beerstock.beerstockapi.api.repository.StockShardRepository;
+import br.com.beerstock.beerstockapi.domain.cache.BeerCache;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.entity.StockShard;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import lombok.AllArgsConstructor;
+
+@Service
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class StockShardService {
+
+    private final BeerRepository beerRepository;
+    private final StockShardRepository stockShardRepository;
+    private final BeerCache beerCache;
+
+    private Beer lockById(UUID id) throws BeerNotFoundException {
+        return this.beerRepository.findAllByIdForUpdate(List.of(id))
+            .stream()
+            .findFirst()
+            .orElseThrow(() -> new BeerNotFoundException(id));
+    }
+
+    @Transactional(readOnly = true)
+    public StockShardsDTO findShards(UUID beerId) throws BeerNotFoundException {
+        Beer beer = this.beerRepository.findById(beerId)
+            .orElseThrow(() -> new BeerNotFoundException(beerId));
+        if (beer.getShards() == 0) {
+            return toStockShards(beerId, beer.getQuantity(), List.of());
+        }
+        List<StockShard> shards = this.stockShardRepository.findAllByBeerId(beerId);
+        return toStockShards(beerId, sumOf(shards), shards);
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public StockShardsDTO enable(UUID beerId, int count)
+        throws BeerNotFoundException, StockShardingConflictException {
+        Beer beer = lockById(beerId);
+        if (beer.getReserved() > 0) {
+            throw new StockShardingConflictException(beerId);
+        }
+        List<StockShard> previousShards = beer.getShards() > 0
+            ? this.stockShardRepository.findAllByBeerIdForUpdate(beerId)
+            : List.of();
+        int quantity = beer.getShards() > 0 ? sumOf(previousShards) : beer.getQuantity();
+        this.stockShardRepository.deleteAllByBeerId(beerId);
+        List<StockShard> shards = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            int shardQuantity = quantity / count + (shard < quantity % count ? 1 : 0);
+            shards.add(new StockShard(beerId, shard, shardQuantity, 0));
+        }
+        this.stockShardRepository.saveAll(shards);
+        beer = lockById(beerId);
+        beer.setShards(count);
+        beer.setQuantity(quantity);
+        foldShardVersions(beerId, previousShards);
+        evictAfterCommit(beer.getName());
+        return toStockShards(beerId, quantity, shards);
+    }
+
+    @Transactional
+    public StockShardsDTO disable(UUID beerId) throws BeerNotFoundException {
+        Beer beer = lockById(beerId);
+        if (beer.getShards() == 0) {
+            return toStockShards(beerId, beer.getQuantity(), List.of());
+        }
+        List<StockShard> shards = this.stockShardRepository.findAllByBeerIdForUpdate(beerId);
+        int quantity = sumOf(shards);
+        this.stockShardRepository.deleteAllByBeerId(beerId);
+        beer = lockById(beerId);
+        beer.setShards(0);
+        beer.setQuantity(quantity);
+        foldShardVersions(beerId, shards);
+        evictAfterCommit(beer.getName());
+        return toStockShards(beerId, quantity, List.of());
+    }
+
+    @Transactional
+    public int increment(Beer beer, int quantityToIncrement) throws BeerStockExceededException {
+        List<StockShard> shards = this.stockShardRepository.findAllByBeerIdForUpdate(beer.getId());
+        if (shards.isEmpty()) {
+            return incrementUnsharded(beer.getId(), quantityToIncrement);
+        }
+        int quantity = sumOf(shards) + quantityToIncrement;
+        if (quantity > beer.getMax()) {
+            throw new BeerStockExceededException(beer.getId(), quantityToIncrement);
+        }
+        StockShard shard = shards.get(ThreadLocalRandom.current().nextInt(shards.size()));
+        shard.addQuantity(quantityToIncrement);
+        return quantity;
+    }
+
+    @Transactional
+    public int decrement(Beer beer, int quantityToDecrement) throws StockLessThenZeroException {
+        int first = ThreadLocalRandom.current().nextInt(beer.getShards());
+        for (int offset = 0; offset < beer.getShards(); offset++) {
+            int shard = (first + offset) % beer.getShards();
+            if (this.stockShardRepository.tryTakeQuantity(beer.getId(), shard, quantityToDecrement)) {
+                return totalsOf(beer).getQuantity().intValue();
+            }
+        }
+        List<StockShard> shards = this.stockShardRepository.findAllByBeerIdForUpdate(beer.getId());
+        if (shards.isEmpty()) {
+            return decrementUnsharded(beer.getId(), quantityToDecrement);
+        }
+        int quantity = sumOf(shards) - quantityToDecrement;
+        if (quantity < 0) {
+            throw new StockLessThenZeroException(beer.getId(), quantityToDecrement);
+        }
+        int remaining = quantityToDecrement;
+        for (StockShard shard : shards) {
+            int taken = Math.min(shard.getQuantity(), remaining);
+            if (taken > 0) {
+                shard.addQuantity(-taken);
+                remaining -= taken;
+            }
+        }
+        return quantity;
+    }
+
+    @Transactional
+    public int adjust(Beer beer, int delta) {
+        List<StockShard> shards = this.stockShardRepository.findAllByBeerIdForUpdate(beer.getId());
+        int remaining = delta;
+        for (int index = 0; index < shards.size() && remaining != 0; index++) {
+            StockShard shard = shards.get(index);
+            int applied = remaining > 0 ? remaining : -Math.min(shard.getQuantity(), -remaining);
+            if (applied != 0) {
+                shard.addQuantity(applied);
+                remaining -= applied;
+            }
+        }
+        return sumOf(shards);
+    }
+
+    @Transactional(readOnly = true)
+    public BeerShardTotals totalsOf(Beer beer) {
+        return this.stockShardRepository.findTotalsByBeerId(beer.getId());
+    }
+
+    @Transactional
+    public int lockQuantity(Beer beer) {
+        return sumOf(this.stockShardRepository.findAllByBeerIdForUpdate(beer.getId()));
+    }
+
+    @Transactional
+    public List<String> synchronize() {
+        List<String> synchronizedBeers = new ArrayList<>();
+        for (BeerShardedStock stock : this.stockShardRepository.sumQuantityByBeerId()) {
+            if (this.beerRepository.synchronizeShardedQuantity(
+                stock.getBeerId(), stock.getQuantity().intValue()) > 0) {
+                this.beerRepository.findById(stock.getBeerId())
+                    .map(Beer::getName)
+                    .ifPresent(synchronizedBeers::add);
+            }
+        }
+        return synchronizedBeers;
+    }
+
+    @EventListener
+    @Transactional
+    public void discardShards(BeerChangedEvent event) {
+        if (event.getType() == BeerChangeType.DELETED) {
+            this.stockShardRepository.deleteAllByBeerId(event.getBeer().getId());
+        }
+    }
+
+    private int incrementUnsharded(UUID beerId, int quantityToIncrement)
+        throws BeerStockExceededException {
+        if (this.beerRepository.incrementQuantity(beerId, quantityToIncrement) == 0) {
+            throw new BeerStockExceededException(beerId, quantityToIncrement);
+        }
+        return this.beerRepository.findById(beerId).map(Beer::getQuantity).orElse(0);
+    }
+
+    private int decrementUnsharded(UUID beerId, int quantityToDecrement)
+        throws StockLessThenZeroException {
+        if (this.beerRepository.decrementQuantity(beerId, quantityToDecrement) == 0) {
+            throw new StockLessThenZeroException(beerId, quantityToDecrement);
+        }
+        return this.beerRepository.findById(beerId).map(Beer::getQuantity).orElse(0);
+    }
+
+    private void foldShardVersions(UUID beerId, List<StockShard> shards) {
+        long versions = shards.stream().mapToLong(StockShard::getVersion).sum();
+        if (versions > 0) {
+            this.beerRepository.advanceVersion(beerId, versions);
+        }
+    }
+
+    private void evictAfterCommit(String name) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                StockShardService.this.beerCache.evict(name);
+            }
+        });
+    }
+
+    private static int sumOf(List<StockShard> shards) {
+        return shards.stream().mapToInt(StockShard::getQuantity).sum();
+    }
+
+    private static StockShardsDTO toStockShards(UUID beerId, int quantity, List<StockShard> shards) {
+        return StockShardsDTO.builder()
+            .beerId(beerId)
+            .quantity(quantity)
+            .shards(shards.stream().map(StockShard::getQuantity).collect(Collectors.toList()))
+            .build();
+    }
+
+}
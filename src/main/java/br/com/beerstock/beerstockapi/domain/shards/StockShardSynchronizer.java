@@ -0,0 +1,42 @@
+package br.com.beerstock.beerstockapi.domain.shards;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.beerstock.beerstockapi.domain.cache.BeerCache;
+import br.com.beerstock.beerstockapi.domain.services.StockShardService;
+import br.com.beerstock.beerstockapi.domain.versioning.CatalogVersion;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class StockShardSynchronizer {
+
+    private final StockShardService stockShardService;
+    private final BeerCache beerCache;
+    private final CatalogVersion catalogVersion;
+
+    @Autowired
+    public StockShardSynchronizer(
+        StockShardService stockShardService, BeerCache beerCache, CatalogVersion catalogVersion) {
+        this.stockShardService = stockShardService;
+        this.beerCache = beerCache;
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Scheduled(
+        initialDelayString = "${beerstock.shards.sync-interval:1000}",
+        fixedDelayString = "${beerstock.shards.sync-interval:1000}")
+    public void synchronize() {
+        List<String> synchronizedBeers = this.stockShardService.synchronize();
+        if (!synchronizedBeers.isEmpty()) {
+            synchronizedBeers.forEach(this.beerCache::evict);
+            this.catalogVersion.advance();
+            log.debug("Synchronized the sharded stock of {} beers", synchronizedBeers.size());
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package br.com.beerstock.beerstockapi.domain.streams;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeFilterDTO;
+import br.com.beerstock.beerstockapi.api.exception.StockStreamUnavailableException;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+@Component
+public class StockChangeStream {
+
+    private final Set<StockChangeSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Duration coalesceWindow;
+    private final Duration heartbeatInterval;
+    private final int maxSubscribers;
+
+    @Autowired
+    public StockChangeStream(
+        @Value("${beerstock.stream.coalesce-window:250ms}") Duration coalesceWindow,
+        @Value("${beerstock.stream.heartbeat-interval:15s}") Duration heartbeatInterval,
+        @Value("${beerstock.stream.max-subscribers:100}") int maxSubscribers) {
+        this.coalesceWindow = coalesceWindow;
+        this.heartbeatInterval = heartbeatInterval;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public Flux<ServerSentEvent<StockChangeDTO>> subscribe(StockChangeFilterDTO filter)
+        throws StockStreamUnavailableException {
+        if (this.subscribers.get() >= this.maxSubscribers) {
+            throw new StockStreamUnavailableException(this.maxSubscribers);
+        }
+        return Flux.defer(() -> {
+            if (this.subscribers.incrementAndGet() > this.maxSubscribers) {
+                this.subscribers.decrementAndGet();
+                return Flux.error(new StockStreamUnavailableException(this.maxSubscribers));
+            }
+            StockChangeSubscription subscription = new StockChangeSubscription(filter);
+            this.subscriptions.add(subscription);
+            return changesOf(subscription).doFinally(signal -> release(subscription));
+        });
+    }
+
+    public int subscribers() {
+        return this.subscribers.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(BeerChangedEvent event) {
+        this.subscriptions.forEach(subscription -> subscription.offer(event));
+    }
+
+    private Flux<ServerSentEvent<StockChangeDTO>> changesOf(StockChangeSubscription subscription) {
+        Flux<ServerSentEvent<StockChangeDTO>> changes = Flux.interval(this.coalesceWindow)
+            .onBackpressureDrop()
+            .flatMapIterable(tick -> subscription.drain(), 1)
+            .map(change -> ServerSentEvent.builder(change)
+                .event(change.getType().name())
+                .build());
+        Flux<ServerSentEvent<StockChangeDTO>> heartbeats = Flux.interval(this.heartbeatInterval)
+            .onBackpressureDrop()
+            .map(tick -> ServerSentEvent.<StockChangeDTO>builder()
+                .comment("heartbeat")
+                .build());
+        return Flux.merge(1, changes, heartbeats)
+            .startWith(ServerSentEvent.<StockChangeDTO>builder()
+                .comment("subscribed")
+                .build());
+    }
+
+    private void release(StockChangeSubscription subscription) {
+        if (this.subscriptions.remove(subscription)) {
+            this.subscribers.decrementAndGet();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package br.com.beerstock.beerstockapi.domain.streams;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeFilterDTO;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+class StockChangeSubscription {
+
+    private final StockChangeFilterDTO filter;
+    private Map<UUID, StockChangeDTO> pending = new LinkedHashMap<>();
+
+    StockChangeSubscription(StockChangeFilterDTO filter) {
+        this.filter = filter;
+    }
+
+    synchronized void offer(BeerChangedEvent event) {
+        BeerDTO beer = event.getBeer();
+        if (!matches(beer)) {
+            return;
+        }
+        StockChangeDTO previous = this.pending.get(beer.getId());
+        this.pending.put(beer.getId(), previous == null
+            ? new StockChangeDTO(event.getType(), event.getQuantityDelta(), 1, beer)
+            : new StockChangeDTO(coalescedType(previous.getType(), event.getType()),
+                previous.getQuantityDelta() + event.getQuantityDelta(),
+                previous.getChanges() + 1, beer));
+    }
+
+    synchronized List<StockChangeDTO> drain() {
+        if (this.pending.isEmpty()) {
+            return List.of();
+        }
+        List<StockChangeDTO> changes = new ArrayList<>(this.pending.values());
+        this.pending = new LinkedHashMap<>();
+        return changes;
+    }
+
+    private static BeerChangeType coalescedType(BeerChangeType previous, BeerChangeType next) {
+        return next == BeerChangeType.STOCK_CHANGED ? previous : next;
+    }
+
+    private boolean matches(BeerDTO beer) {
+        return (this.filter.getBeerId() == null || this.filter.getBeerId().isEmpty()
+                || this.filter.getBeerId().contains(beer.getId()))
+            && (this.filter.getType() == null || this.filter.getType().isEmpty()
+                || this.filter.getType().contains(beer.getType()));
+    }
+
+}
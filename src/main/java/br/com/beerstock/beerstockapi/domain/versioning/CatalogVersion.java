@@ -0,0 +1,47 @@
+package br.com.beerstock.beerstockapi.domain.versioning;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import lombok.AllArgsConstructor;
+
+@Component
+@AllArgsConstructor(onConstructor = @__(@Autowired))
+public class CatalogVersion {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public String current() {
+        return Long.toString(this.jdbcTemplate.queryForObject(
+            "select version from catalog_version where id = 1", Long.class));
+    }
+
+    @Transactional(readOnly = true)
+    public BeerPageDTO readTagged(Supplier<BeerPageDTO> read) {
+        String version = current();
+        BeerPageDTO beerPageDTO = read.get();
+        beerPageDTO.setVersion(version);
+        return beerPageDTO;
+    }
+
+    @EventListener
+    @Transactional
+    public void advance(BeerChangedEvent event) {
+        if (!event.isSharded()) {
+            advance();
+        }
+    }
+
+    @Transactional
+    public void advance() {
+        this.jdbcTemplate.update("update catalog_version set version = version + 1 where id = 1");
+    }
+
+}
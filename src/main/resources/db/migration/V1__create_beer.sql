@@ -0,0 +1,15 @@
+create table if not exists beer (
+    id uuid not null,
+    name varchar(255) not null,
+    brand varchar(255) not null,
+    max integer not null,
+    quantity integer not null,
+    type varchar(255) not null,
+    primary key (id),
+    constraint uk_beer_name unique (name)
+);
+
+create index if not exists idx_beer_type_name on beer (type, name, id);
+create index if not exists idx_beer_brand_name on beer (brand, name, id);
+create index if not exists idx_beer_quantity on beer (quantity);
+create index if not exists idx_beer_max on beer (max);
@@ -0,0 +1,9 @@
+create table if not exists stock_reservation (
+    id uuid not null,
+    beer_id uuid not null,
+    quantity integer not null,
+    expires_at timestamp not null,
+    primary key (id)
+);
+
+create index if not exists idx_stock_reservation_beer_id on stock_reservation (beer_id);
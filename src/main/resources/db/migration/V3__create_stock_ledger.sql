@@ -0,0 +1,21 @@
+create sequence if not exists stock_movement_seq start with 1 increment by 50;
+
+create table if not exists stock_movement (
+    id bigint not null,
+    beer_id uuid not null,
+    type varchar(255) not null,
+    delta integer not null,
+    created_at timestamp not null,
+    primary key (id)
+);
+
+create index if not exists idx_stock_movement_beer_id on stock_movement (beer_id, id);
+create index if not exists idx_stock_movement_created_at on stock_movement (created_at);
+
+create table if not exists stock_snapshot (
+    beer_id uuid not null,
+    quantity bigint not null,
+    last_movement_id bigint not null,
+    taken_at timestamp not null,
+    primary key (beer_id)
+);
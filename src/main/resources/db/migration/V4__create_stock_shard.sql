@@ -0,0 +1,6 @@
+create table if not exists stock_shard (
+    beer_id uuid not null,
+    shard integer not null,
+    quantity integer not null,
+    primary key (beer_id, shard)
+);
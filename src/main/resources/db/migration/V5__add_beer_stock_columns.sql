@@ -0,0 +1,8 @@
+alter table beer add column if not exists reserved integer default 0 not null;
+alter table beer add column if not exists shards integer default 0 not null;
+alter table beer add column if not exists fill_ratio double precision default 1 not null;
+alter table beer add column if not exists version bigint default 0 not null;
+
+update beer set fill_ratio = coalesce(1.0 * quantity / nullif(max, 0), 1.0);
+
+create index if not exists idx_beer_fill_ratio on beer (fill_ratio, id);
@@ -0,0 +1 @@
+alter table stock_shard add column if not exists version bigint default 0 not null;
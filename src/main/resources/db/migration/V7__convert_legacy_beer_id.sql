@@ -0,0 +1 @@
+alter table beer alter column id set data type uuid;
@@ -0,0 +1,7 @@
+create table if not exists catalog_version (
+    id integer not null,
+    version bigint not null,
+    primary key (id)
+);
+
+insert into catalog_version (id, version) select 1, 0 where not exists (select 1 from catalog_version where id = 1);
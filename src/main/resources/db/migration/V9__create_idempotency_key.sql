@@ -0,0 +1,12 @@
+create table if not exists idempotency_key (
+    idempotency_key varchar(255) not null,
+    operation varchar(255) not null,
+    beer_id uuid not null,
+    quantity integer not null,
+    outcome varchar(255),
+    result varchar(4000),
+    expires_at timestamp not null,
+    primary key (idempotency_key)
+);
+
+create index if not exists idx_idempotency_key_expires_at on idempotency_key (expires_at);
@@ -0,0 +1,161 @@
+package br.com.beerstock.beerstockapi.startup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+import br.com.beerstock.beerstockapi.BeerstockapiApplication;
+import br.com.beerstock.beerstockapi.api.configuration.FastStartupConfiguration;
+
+@Slf4j
+public class StartupTimeReport {
+
+    private static final String FIRST_REQUEST_PATH = "/api/v1/beers";
+    private static final String ARCHIVE = "beerstock.jsa";
+    private static final String CLASSPATH_FILE = "classpath.txt";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Path directory;
+    private final String classpath;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(1))
+        .build();
+
+    public StartupTimeReport(Path directory, String classpath) {
+        this.directory = directory;
+        this.classpath = classpath;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Path.of(args[0]);
+        int runs = Integer.getInteger("startup.runs", 5);
+        StartupTimeReport report = new StartupTimeReport(directory, classpathOf(directory));
+        Files.writeString(directory.resolve(CLASSPATH_FILE), report.classpath);
+        log.info("Training run, writing the class data sharing archive to {}", directory.resolve(ARCHIVE));
+        report.timeToFirstRequest("training", List.of("-XX:ArchiveClassesAtExit=" + ARCHIVE), true);
+        Map<String, List<Long>> timings = report.measure(runs);
+        print(timings);
+        System.exit(0);
+    }
+
+    private static String classpathOf(Path directory) throws IOException {
+        List<String> entries = new ArrayList<>();
+        try (Stream<Path> jars = Files.list(directory)) {
+            jars.filter(path -> path.toString().endsWith(".jar"))
+                .forEach(path -> entries.add(directory.relativize(path).toString()));
+        }
+        try (Stream<Path> jars = Files.list(directory.resolve("lib"))) {
+            entries.addAll(jars.map(path -> directory.relativize(path).toString())
+                .sorted()
+                .collect(Collectors.toList()));
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private Map<String, List<Long>> measure(int runs) throws Exception {
+        Map<String, List<Long>> timings = new LinkedHashMap<>();
+        for (int run = 1; run <= runs; run++) {
+            timings.computeIfAbsent("default", mode -> new ArrayList<>())
+                .add(timeToFirstRequest("default-" + run, List.of(), false));
+            timings.computeIfAbsent("lazy", mode -> new ArrayList<>())
+                .add(timeToFirstRequest("lazy-" + run, List.of(), true));
+            timings.computeIfAbsent("cds", mode -> new ArrayList<>())
+                .add(timeToFirstRequest("cds-" + run, List.of("-XX:SharedArchiveFile=" + ARCHIVE), false));
+            timings.computeIfAbsent("cds+lazy", mode -> new ArrayList<>())
+                .add(timeToFirstRequest("cds-lazy-" + run, List.of("-XX:SharedArchiveFile=" + ARCHIVE), true));
+        }
+        return timings;
+    }
+
+    private long timeToFirstRequest(String name, List<String> jvmArgs, boolean fastStartup)
+        throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-cp", this.classpath, BeerstockapiApplication.class.getName(),
+            "--server.port=" + port,
+            "--spring.datasource.url=jdbc:h2:mem:startup",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"));
+        if (fastStartup) {
+            command.add("--spring.profiles.active=" + FastStartupConfiguration.FAST_STARTUP_PROFILE);
+        }
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(this.directory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(this.directory.resolve(name + ".log").toFile())
+            .start();
+        try {
+            awaitFirstRequest(process, port, name);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            log.info("[{}] First request answered after {} ms", name, elapsedMillis);
+            return elapsedMillis;
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitFirstRequest(Process process, int port, String name) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + port + FIRST_REQUEST_PATH)).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(String.format(
+                    "The %s run exited with %d, see %s.log", name, process.exitValue(), name));
+            }
+            try {
+                if (this.httpClient.send(request, HttpResponse.BodyHandlers.discarding())
+                    .statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                Thread.sleep(10);
+            }
+        }
+        throw new IllegalStateException(String.format(
+            "The %s run did not answer within %s, see %s.log", name, STARTUP_TIMEOUT, name));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    private static void print(Map<String, List<Long>> timings) {
+        long defaultMedian = median(timings.get("default"));
+        System.out.printf("%n%-10s %10s %10s %10s %10s%n", "ms", "median", "min", "max", "vs default");
+        timings.forEach((mode, millis) -> System.out.printf("%-10s %10d %10d %10d %9.0f%%%n",
+            mode, median(millis), Collections.min(millis), Collections.max(millis),
+            100.0 * (median(millis) - defaultMedian) / defaultMedian));
+        System.out.println();
+    }
+
+    private static long median(List<Long> millis) {
+        List<Long> sorted = millis.stream().sorted().collect(Collectors.toList());
+        return sorted.get(sorted.size() / 2);
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.beerstock.beerstockapi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import br.com.beerstock.beerstockapi.api.configuration.FastStartupConfiguration;
+
+@SpringBootTest
+@ActiveProfiles(FastStartupConfiguration.FAST_STARTUP_PROFILE)
+class FastStartupApplicationTests {
+
+	@Autowired
+	private ConfigurableListableBeanFactory beanFactory;
+
+	@Test
+	@DisplayName("When the fast startup profile is active then only scheduled beans and the beer API start eagerly")
+	void whenTheFastStartupProfileIsActiveThenOnlyScheduledBeansAndTheBeerApiStartEagerly() {
+		// then
+		assertThat(this.beanFactory.containsSingleton("stockShardSynchronizer"), equalTo(true));
+		assertThat(this.beanFactory.containsSingleton("beerController"), equalTo(true));
+		assertThat(this.beanFactory.containsSingleton("springBeerStockOpenAPI"), equalTo(false));
+		assertThat(this.beanFactory.containsSingleton("stockShardController"), equalTo(false));
+	}
+
+}
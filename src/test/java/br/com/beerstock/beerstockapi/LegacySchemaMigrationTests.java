@@ -0,0 +1,51 @@
+package br.com.beerstock.beerstockapi;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class LegacySchemaMigrationTests {
+
+	private static final String LEGACY_BEER_TABLE = "create table beer ("
+		+ " id binary(255) not null,"
+		+ " brand varchar(255) not null,"
+		+ " max integer not null,"
+		+ " name varchar(255) not null,"
+		+ " quantity integer not null,"
+		+ " type varchar(255) not null,"
+		+ " primary key (id))";
+
+	@Test
+	@DisplayName("When the application starts on a legacy schema then the migrations upgrade it")
+	void whenTheApplicationStartsOnALegacySchemaThenTheMigrationsUpgradeIt() {
+		// given
+		String url = "jdbc:h2:mem:legacy-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+		JdbcTemplate legacyDatabase = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+		legacyDatabase.execute(LEGACY_BEER_TABLE);
+		legacyDatabase.execute("alter table beer add constraint UK_legacy_beer_name unique (name)");
+		legacyDatabase.update("insert into beer (id, brand, max, name, quantity, type)"
+			+ " values (?, 'Ambev', 50, 'Legacy Brahma', 5, 'LAGER')", UUID.randomUUID());
+
+		// when
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BeerstockapiApplication.class)
+			.run("--spring.datasource.url=" + url)) {
+
+			// then
+			assertThat(legacyDatabase.queryForObject(
+				"select fill_ratio from beer where name = 'Legacy Brahma'", Double.class), equalTo(0.1));
+			assertThat(legacyDatabase.queryForObject(
+				"select count(*) from information_schema.indexes where index_name = 'IDX_BEER_FILL_RATIO'",
+				Integer.class) > 0, equalTo(true));
+		} finally {
+			legacyDatabase.execute("shutdown");
+		}
+	}
+
+}
@@ -1,6 +1,8 @@
 package br.com.beerstock.beerstockapi.api.controllers;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
@@ -16,22 +19,44 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.hamcrest.core.Is.is;
 import static br.com.beerstock.beerstockapi.common.utils.JsonConversionUtils.asJsonString;
 
 import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
 import br.com.beerstock.beerstockapi.api.dtos.QuantityDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentRequestDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentResultDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregateDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregatesDTO;
 import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.IdempotencyKeyReusedException;
+import br.com.beerstock.beerstockapi.api.exception.InvalidCursorException;
 import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.idempotency.IdempotencyStore;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentMode;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentStatus;
 import br.com.beerstock.beerstockapi.domain.services.BeerService;
+import br.com.beerstock.beerstockapi.domain.services.BeerStockAdjustmentService;
 
 import static br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder.generateValidBeerUUID;
 import static br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder.generateInvalidBeerUUID;
@@ -50,15 +75,23 @@ public class BeerControllerTest {
     @Mock
     private BeerService beerService;
 
+    @Mock
+    private BeerStockAdjustmentService beerStockAdjustmentService;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
     @InjectMocks
     private BeerController beerController;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
         this.mockMvc = MockMvcBuilders.standaloneSetup(beerController)
             .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
             .setViewResolvers((s, locale) -> new MappingJackson2JsonView())
             .build();
+        lenient().when(this.idempotencyStore.execute(any(), any(), any(), anyInt(), any()))
+            .thenAnswer(invocation -> invocation.<IdempotencyStore.StockOperation>getArgument(4).apply());
     }
 
     @Test
@@ -131,34 +164,204 @@ public class BeerControllerTest {
     void whenGETListWithBeersIsCalledThenOkStatusIsReturned() throws Exception {
         // given
         BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        BeerPageDTO beerPageDTO = new BeerPageDTO(Collections.singletonList(beerDTO), null, null);
 
         // when
-        when(this.beerService.findAll())
-            .thenReturn(Collections.singletonList(beerDTO));
+        when(this.beerService.findAll(new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE))
+            .thenReturn(beerPageDTO);
 
         // then
         mockMvc.perform(get(BEER_API_URL_PATH)
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$[0].name", is(beerDTO.getName())))
-            .andExpect(jsonPath("$[0].brand", is(beerDTO.getBrand())))
-            .andExpect(jsonPath("$[0].type", is(beerDTO.getType().toString())));
+            .andExpect(jsonPath("$.items[0].name", is(beerDTO.getName())))
+            .andExpect(jsonPath("$.items[0].brand", is(beerDTO.getBrand())))
+            .andExpect(jsonPath("$.items[0].type", is(beerDTO.getType().toString())));
     }
 
     @Test
     @DisplayName("When GET list without beers is called then Ok status is returned")
     void whenGETListWithoutBeersIsCalledThenOkStatusIsReturned() throws Exception {
+        // when
+        when(this.beerService.findAll(new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE))
+            .thenReturn(new BeerPageDTO(Collections.emptyList(), null, null));
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", is(Collections.emptyList())));
+    }
+
+    @Test
+    @DisplayName("When GET list is called with cursor and filter then they are forwarded")
+    void whenGETListIsCalledWithCursorAndFilterThenTheyAreForwarded() throws Exception {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        BeerFilterDTO filter = BeerFilterDTO.builder().type(beerDTO.getType()).build();
+        BeerPageDTO beerPageDTO = new BeerPageDTO(Collections.singletonList(beerDTO), "next-cursor", null);
+
+        // when
+        when(this.beerService.findAll(filter, "cursor", 5)).thenReturn(beerPageDTO);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH)
+                .param("type", beerDTO.getType().toString())
+                .param("cursor", "cursor")
+                .param("size", "5")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.next", is("next-cursor")));
+    }
+
+    @Test
+    @DisplayName("When GET list is called with quantity and max ranges then they are forwarded")
+    void whenGETListIsCalledWithQuantityAndMaxRangesThenTheyAreForwarded() throws Exception {
         // given
         BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        BeerFilterDTO filter = BeerFilterDTO.builder()
+            .quantityFrom(5)
+            .quantityTo(15)
+            .maxFrom(50)
+            .build();
+        BeerPageDTO beerPageDTO = new BeerPageDTO(Collections.singletonList(beerDTO), null, null);
 
         // when
-        when(this.beerService.findAll())
-            .thenReturn(Collections.singletonList(beerDTO));
+        when(this.beerService.findAll(filter, null, BeerService.DEFAULT_PAGE_SIZE))
+            .thenReturn(beerPageDTO);
 
         // then
         mockMvc.perform(get(BEER_API_URL_PATH)
+                .param("quantityFrom", "5")
+                .param("quantityTo", "15")
+                .param("maxFrom", "50")
                 .contentType(MediaType.APPLICATION_JSON))
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].name", is(beerDTO.getName())));
+    }
+
+    @Test
+    @DisplayName("When GET low-stock is called then threshold, filter and cursor are forwarded")
+    void whenGETLowStockIsCalledThenThresholdFilterAndCursorAreForwarded() throws Exception {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().quantity(2).build().toBeerDto();
+        BeerFilterDTO filter = BeerFilterDTO.builder().brand(beerDTO.getBrand()).build();
+        BeerPageDTO beerPageDTO = new BeerPageDTO(Collections.singletonList(beerDTO), null, null);
+
+        // when
+        when(this.beerService.findLowStock(20, filter, "cursor", 10)).thenReturn(beerPageDTO);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH + "/low-stock")
+                .param("below", "20")
+                .param("brand", beerDTO.getBrand())
+                .param("cursor", "cursor")
+                .param("size", "10")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].quantity", is(2)));
+    }
+
+    @Test
+    @DisplayName("When GET aggregates is called then the totals per type and brand are returned")
+    void whenGETAggregatesIsCalledThenTheTotalsPerTypeAndBrandAreReturned() throws Exception {
+        // given
+        StockAggregateDTO aggregateDTO = new StockAggregateDTO(2, 30, 100);
+        StockAggregatesDTO aggregatesDTO = new StockAggregatesDTO(
+            Map.of(BeerType.LAGER, aggregateDTO), Map.of("Ambev", aggregateDTO));
+
+        // when
+        when(this.beerService.findStockAggregates()).thenReturn(aggregatesDTO);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH + "/aggregates"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.byType.LAGER.units", is(30)))
+            .andExpect(jsonPath("$.byBrand.Ambev.beers", is(2)))
+            .andExpect(jsonPath("$.byBrand.Ambev.capacity", is(100)));
+    }
+
+    @Test
+    @DisplayName("When GET list is called with invalid cursor then bad request status is returned")
+    void whenGETListIsCalledWithInvalidCursorThenBadRequestStatusIsReturned() throws Exception {
+        // when
+        when(this.beerService.findAll(new BeerFilterDTO(), "invalid", BeerService.DEFAULT_PAGE_SIZE))
+            .thenThrow(InvalidCursorException.class);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH)
+                .param("cursor", "invalid")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("When GET is called with current beer ETag then not modified is returned")
+    void whenGETIsCalledWithCurrentBeerETagThenNotModifiedIsReturned() throws Exception {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().version(3).build().toBeerDto();
+        String version = beerDTO.getId() + ".3";
+
+        // when
+        when(this.beerService.findByName(beerDTO.getName())).thenReturn(beerDTO);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH + "/" + beerDTO.getName())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + version + "\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("When GET is called with stale beer ETag then the beer and its ETag are returned")
+    void whenGETIsCalledWithStaleBeerETagThenTheBeerAndItsETagAreReturned() throws Exception {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().version(4).build().toBeerDto();
+        String version = beerDTO.getId() + ".4";
+
+        // when
+        when(this.beerService.findByName(beerDTO.getName())).thenReturn(beerDTO);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH + "/" + beerDTO.getName())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + beerDTO.getId() + ".3\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + version + "\""))
+            .andExpect(jsonPath("$.name", is(beerDTO.getName())));
+    }
+
+    @Test
+    @DisplayName("When GET list is called with current catalog ETag then not modified is returned")
+    void whenGETListIsCalledWithCurrentCatalogETagThenNotModifiedIsReturned() throws Exception {
+        // given
+        BeerPageDTO beerPageDTO = new BeerPageDTO(Collections.emptyList(), null, "7");
+
+        // when
+        when(this.beerService.findAll(new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE))
+            .thenReturn(beerPageDTO);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("When GET list is called with stale catalog ETag then the page is tagged with its own version")
+    void whenGETListIsCalledWithStaleCatalogETagThenThePageIsTaggedWithItsOwnVersion() throws Exception {
+        // given
+        BeerPageDTO beerPageDTO = new BeerPageDTO(Collections.emptyList(), null, "8");
+
+        // when
+        when(this.beerService.findAll(new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE))
+            .thenReturn(beerPageDTO);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"8\""));
     }
 
     @Test
@@ -231,6 +434,37 @@ public class BeerControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("When PATCH carries an idempotency key then the increment runs under that key")
+    void whenPATCHCarriesAnIdempotencyKeyThenTheIncrementRunsUnderThatKey() throws Exception {
+        // given
+        QuantityDTO quantityDTO = QuantityDTO.builder().quantity(10).build();
+        BeerDTO beerDTO = BeerDTOBuilder.builder().quantity(20).build().toBeerDto();
+        String incrementUrl = String.format("%s/%s/%s",
+            BEER_API_URL_PATH, BEER_API_SUBPATH_INCREMENT_URL, VALID_BEER_ID);
+
+        // when
+        when(this.beerService.increment(VALID_BEER_ID, quantityDTO.getQuantity()))
+            .thenReturn(beerDTO);
+        doThrow(new IdempotencyKeyReusedException("pos-42")).when(this.idempotencyStore)
+            .execute(eq("pos-42"), eq(IdempotencyStore.INCREMENT), eq(VALID_BEER_ID), eq(5), any());
+
+        // then
+        mockMvc.perform(patch(incrementUrl)
+                .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "pos-42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(quantityDTO)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.quantity", is(20)));
+        mockMvc.perform(patch(incrementUrl)
+                .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "pos-42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(new QuantityDTO(5))))
+            .andExpect(status().isUnprocessableEntity());
+        verify(this.idempotencyStore).execute(eq("pos-42"), eq(IdempotencyStore.INCREMENT),
+            eq(VALID_BEER_ID), eq(quantityDTO.getQuantity()), any());
+    }
+
     @Test
     @DisplayName("When PATCH is called to decrement stock then OK status is returned")
     void whenPATCHIsCalledToDecrementStockThenOKStatusIsReturned() throws Exception {
@@ -271,4 +505,39 @@ public class BeerControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("When POST stock adjustments is called then the results are returned")
+    void whenPOSTStockAdjustmentsIsCalledThenTheResultsAreReturned() throws Exception {
+        // given
+        List<StockAdjustmentDTO> adjustments = List.of(new StockAdjustmentDTO(VALID_BEER_ID, 5));
+        StockAdjustmentResultDTO result = new StockAdjustmentResultDTO(
+            VALID_BEER_ID, 5, StockAdjustmentStatus.APPLIED, 15);
+
+        // when
+        when(this.beerStockAdjustmentService.adjust(adjustments, StockAdjustmentMode.PER_ITEM))
+            .thenReturn(List.of(result));
+
+        // then
+        mockMvc.perform(post(BEER_API_URL_PATH + "/stock-adjustments")
+                .param("mode", StockAdjustmentMode.PER_ITEM.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(new StockAdjustmentRequestDTO(adjustments))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status", is(StockAdjustmentStatus.APPLIED.toString())))
+            .andExpect(jsonPath("$[0].quantity", is(15)));
+    }
+
+    @Test
+    @DisplayName("When POST stock adjustments is called without delta then an error is returned")
+    void whenPOSTStockAdjustmentsIsCalledWithoutDeltaThenAnErrorIsReturned() throws Exception {
+        // given
+        List<StockAdjustmentDTO> adjustments = List.of(new StockAdjustmentDTO(VALID_BEER_ID, null));
+
+        // then
+        mockMvc.perform(post(BEER_API_URL_PATH + "/stock-adjustments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(asJsonString(new StockAdjustmentRequestDTO(adjustments))))
+            .andExpect(status().isBadRequest());
+    }
+
 }
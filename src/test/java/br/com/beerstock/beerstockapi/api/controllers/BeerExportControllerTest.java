@@ -0,0 +1,68 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.beerstock.beerstockapi.domain.enums.ExportFormat;
+import br.com.beerstock.beerstockapi.domain.services.BeerExportService;
+
+@ExtendWith(MockitoExtension.class)
+public class BeerExportControllerTest {
+
+    private static final String BEER_EXPORTS_URL_PATH = "/api/v1/beer-exports";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private BeerExportService beerExportService;
+
+    @InjectMocks
+    private BeerExportController beerExportController;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(beerExportController).build();
+    }
+
+    @Test
+    @DisplayName("When GET export is called with CSV format then the body is streamed")
+    void whenGETExportIsCalledWithCSVFormatThenTheBodyIsStreamed() throws Exception {
+        // when
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("id,name\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(this.beerExportService).export(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        // then
+        MvcResult mvcResult = mockMvc.perform(get(BEER_EXPORTS_URL_PATH)
+                .param("format", ExportFormat.CSV.toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ExportFormat.CSV.getContentType()))
+            .andExpect(content().string("id,name\n"));
+    }
+
+}
@@ -0,0 +1,108 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.io.InputStream;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerImportJobDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerImportJobNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerImportRejectedException;
+import br.com.beerstock.beerstockapi.domain.enums.ImportFormat;
+import br.com.beerstock.beerstockapi.domain.enums.ImportJobStatus;
+import br.com.beerstock.beerstockapi.domain.services.BeerImportService;
+
+@ExtendWith(MockitoExtension.class)
+public class BeerImportControllerTest {
+
+    private static final String BEER_IMPORT_API_URL_PATH = "/api/v1/beers/imports";
+    private static final UUID JOB_ID = UUID.fromString("8f0c0a1e-8a4c-4cf4-a5e7-5b8f0f3f6d11");
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private BeerImportService beerImportService;
+
+    @InjectMocks
+    private BeerImportController beerImportController;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(beerImportController).build();
+    }
+
+    @Test
+    @DisplayName("When POST is called with CSV body then an accepted job is returned")
+    void whenPOSTIsCalledWithCSVBodyThenAnAcceptedJobIsReturned() throws Exception {
+        // given
+        BeerImportJobDTO jobDTO = BeerImportJobDTO.builder()
+            .id(JOB_ID)
+            .status(ImportJobStatus.PENDING)
+            .build();
+
+        // when
+        when(this.beerImportService.startImport(eq(ImportFormat.CSV), any(InputStream.class)))
+            .thenReturn(jobDTO);
+
+        // then
+        mockMvc.perform(post(BEER_IMPORT_API_URL_PATH)
+                .contentType("text/csv")
+                .content("name,brand,max,quantity,type\n"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.id", is(JOB_ID.toString())))
+            .andExpect(jsonPath("$.status", is(ImportJobStatus.PENDING.toString())));
+    }
+
+    @Test
+    @DisplayName("When POST is called while the import queue is full then service unavailable is returned")
+    void whenPOSTIsCalledWhileTheImportQueueIsFullThenServiceUnavailableIsReturned() throws Exception {
+        // when
+        when(this.beerImportService.startImport(eq(ImportFormat.CSV), any(InputStream.class)))
+            .thenThrow(BeerImportRejectedException.class);
+
+        // then
+        mockMvc.perform(post(BEER_IMPORT_API_URL_PATH)
+                .contentType("text/csv")
+                .content("name,brand,max,quantity,type\n"))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("When POST is called with unsupported body then an error is returned")
+    void whenPOSTIsCalledWithUnsupportedBodyThenAnErrorIsReturned() throws Exception {
+        mockMvc.perform(post(BEER_IMPORT_API_URL_PATH)
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<beers/>"))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    @DisplayName("When GET is called with unknown job id then not found status is returned")
+    void whenGETIsCalledWithUnknownJobIdThenNotFoundStatusIsReturned() throws Exception {
+        // when
+        when(this.beerImportService.findJobById(JOB_ID))
+            .thenThrow(BeerImportJobNotFoundException.class);
+
+        // then
+        mockMvc.perform(get(BEER_IMPORT_API_URL_PATH + "/" + JOB_ID))
+            .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,494 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import br.com.beerstock.beerstockapi.api.configuration.ReactiveConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+import br.com.beerstock.beerstockapi.api.dtos.QuantityDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregatesDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockLedgerDTO;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.idempotency.IdempotencyStore;
+import br.com.beerstock.beerstockapi.domain.services.StockLedgerService;
+
+@ActiveProfiles(ReactiveConfiguration.REACTIVE_PROFILE)
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.main.web-application-type=reactive")
+public class ReactiveBeerControllerTest {
+
+    private static final String BEER_API_URL_PATH = "/api/v1/beers";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Test
+    @DisplayName("When beer is created then it can be found by name")
+    void whenBeerIsCreatedThenItCanBeFoundByName() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Brahma"), 10, 50);
+
+        // when
+        BeerDTO foundBeerDTO = this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "/{name}", createdBeerDTO.getName())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(BeerDTO.class)
+            .returnResult().getResponseBody();
+
+        // then
+        assertThat(createdBeerDTO.getId(), is(notNullValue()));
+        assertThat(foundBeerDTO, is(equalTo(createdBeerDTO)));
+    }
+
+    @Test
+    @DisplayName("When beer ETag is current then not modified is returned until the stock changes")
+    void whenBeerETagIsCurrentThenNotModifiedIsReturnedUntilTheStockChanges() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Amstel"), 10, 50);
+        String eTag = this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "/{name}", createdBeerDTO.getName())
+            .exchange()
+            .expectStatus().isOk()
+            .returnResult(BeerDTO.class)
+            .getResponseHeaders().getETag();
+
+        // when
+        this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "/{name}", createdBeerDTO.getName())
+            .ifNoneMatch(eTag)
+            .exchange()
+            .expectStatus().isNotModified();
+        patchQuantity("increment", createdBeerDTO.getId(), 1)
+            .expectStatus().isOk();
+
+        // then
+        this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "/{name}", createdBeerDTO.getName())
+            .ifNoneMatch(eTag)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().value(HttpHeaders.ETAG, is(not(equalTo(eTag))));
+    }
+
+    @Test
+    @DisplayName("When stock changes then each movement is recorded once in the ledger")
+    void whenStockChangesThenEachMovementIsRecordedOnceInTheLedger() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Bohemia"), 10, 50);
+
+        // when
+        patchQuantity("decrement", createdBeerDTO.getId(), 4)
+            .expectStatus().isOk();
+
+        // then
+        StockLedgerDTO ledgerDTO = this.stockLedgerService.findLedger(
+            createdBeerDTO.getId(), StockLedgerService.DEFAULT_MOVEMENTS_SIZE);
+        assertThat(ledgerDTO.getMovements(), hasSize(2));
+        assertThat(ledgerDTO.getQuantity(), is(equalTo(6L)));
+    }
+
+    @Test
+    @DisplayName("When beer name is already registered then bad request is returned")
+    void whenBeerNameIsAlreadyRegisteredThenBadRequestIsReturned() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Skol"), 10, 50);
+
+        // then
+        this.webTestClient.post().uri(BEER_API_URL_PATH)
+            .bodyValue(createdBeerDTO)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("When beer is not found by name then not found is returned")
+    void whenBeerIsNotFoundByNameThenNotFoundIsReturned() {
+        this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "/{name}", uniqueName("Missing"))
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("When stock is incremented within max then the new quantity is returned")
+    void whenStockIsIncrementedWithinMaxThenTheNewQuantityIsReturned() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Heineken"), 10, 50);
+
+        // when
+        BeerDTO incrementedBeerDTO = patchQuantity("increment", createdBeerDTO.getId(), 15)
+            .expectStatus().isOk()
+            .expectBody(BeerDTO.class)
+            .returnResult().getResponseBody();
+
+        // then
+        assertThat(incrementedBeerDTO.getQuantity(), is(equalTo(25)));
+    }
+
+    @Test
+    @DisplayName("When increment exceeds max then bad request is returned and stock is kept")
+    void whenIncrementExceedsMaxThenBadRequestIsReturnedAndStockIsKept() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Stella"), 40, 50);
+
+        // when
+        patchQuantity("increment", createdBeerDTO.getId(), 11)
+            .expectStatus().isBadRequest();
+
+        // then
+        assertThat(findByName(createdBeerDTO.getName()).getQuantity(), is(equalTo(40)));
+    }
+
+    @Test
+    @DisplayName("When decrement goes below zero then bad request is returned")
+    void whenDecrementGoesBelowZeroThenBadRequestIsReturned() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Bohemia"), 5, 50);
+
+        // then
+        patchQuantity("decrement", createdBeerDTO.getId(), 6)
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("When stock of an unknown beer is changed then not found is returned")
+    void whenStockOfAnUnknownBeerIsChangedThenNotFoundIsReturned() {
+        patchQuantity("decrement", UUID.randomUUID(), 1)
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("When beer is deleted then it is no longer found")
+    void whenBeerIsDeletedThenItIsNoLongerFound() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Original"), 5, 50);
+
+        // when
+        this.webTestClient.delete()
+            .uri(BEER_API_URL_PATH + "/{id}", createdBeerDTO.getId())
+            .exchange()
+            .expectStatus().isNoContent();
+
+        // then
+        this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "/{name}", createdBeerDTO.getName())
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("When catalog is paged by brand then every beer is returned once")
+    void whenCatalogIsPagedByBrandThenEveryBeerIsReturnedOnce() {
+        // given
+        String brand = uniqueName("Brand");
+        for (int index = 0; index < 3; index++) {
+            createBeer(BeerDTOBuilder.builder()
+                .id(null)
+                .name(uniqueName("Paged"))
+                .brand(brand)
+                .type(BeerType.IPA)
+                .build()
+                .toBeerDto());
+        }
+
+        // when
+        BeerPageDTO firstPage = findPage(brand, null);
+        BeerPageDTO secondPage = findPage(brand, firstPage.getNext());
+
+        // then
+        assertThat(firstPage.getItems(), hasSize(2));
+        assertThat(secondPage.getItems(), hasSize(1));
+        assertThat(secondPage.getNext(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("When low stock is requested then beers below the threshold are ranked by fill ratio")
+    void whenLowStockIsRequestedThenBeersBelowTheThresholdAreRankedByFillRatio() {
+        // given
+        String brand = uniqueName("Brand");
+        BeerDTO emptyBeerDTO = createBeer(brandedBeer(brand, 0));
+        BeerDTO lowBeerDTO = createBeer(brandedBeer(brand, 20));
+        BeerDTO fullBeerDTO = createBeer(brandedBeer(brand, 5));
+
+        // when
+        patchQuantity("increment", fullBeerDTO.getId(), 35)
+            .expectStatus().isOk();
+        patchQuantity("decrement", lowBeerDTO.getId(), 15)
+            .expectStatus().isOk();
+        BeerPageDTO firstPage = findLowStockPage(brand, null);
+        BeerPageDTO secondPage = findLowStockPage(brand, firstPage.getNext());
+
+        // then
+        assertThat(firstPage.getItems().get(0).getId(), is(equalTo(emptyBeerDTO.getId())));
+        assertThat(secondPage.getItems().get(0).getId(), is(equalTo(lowBeerDTO.getId())));
+        assertThat(secondPage.getNext(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("When catalog is filtered by quantity range then only beers inside it are returned")
+    void whenCatalogIsFilteredByQuantityRangeThenOnlyBeersInsideItAreReturned() {
+        // given
+        String brand = uniqueName("Brand");
+        createBeer(brandedBeer(brand, 4));
+        BeerDTO insideBeerDTO = createBeer(brandedBeer(brand, 10));
+        createBeer(brandedBeer(brand, 16));
+
+        // when
+        BeerPageDTO beerPageDTO = this.webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path(BEER_API_URL_PATH)
+                .queryParam("brand", brand)
+                .queryParam("quantityFrom", 5)
+                .queryParam("quantityTo", 15)
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(BeerPageDTO.class)
+            .returnResult().getResponseBody();
+
+        // then
+        assertThat(beerPageDTO.getItems(), hasSize(1));
+        assertThat(beerPageDTO.getItems().get(0).getId(), is(equalTo(insideBeerDTO.getId())));
+    }
+
+    @Test
+    @DisplayName("When brand stock changes then its aggregate follows every committed write")
+    void whenBrandStockChangesThenItsAggregateFollowsEveryCommittedWrite() {
+        // given
+        String brand = uniqueName("Brand");
+        createBeer(brandedBeer(brand, 10));
+        BeerDTO secondBeerDTO = createBeer(brandedBeer(brand, 20));
+
+        // when
+        patchQuantity("increment", secondBeerDTO.getId(), 5)
+            .expectStatus().isOk();
+        patchQuantity("decrement", secondBeerDTO.getId(), 100)
+            .expectStatus().isBadRequest();
+        StockAggregatesDTO aggregatesDTO = findStockAggregates();
+        this.webTestClient.delete()
+            .uri(BEER_API_URL_PATH + "/{id}", secondBeerDTO.getId())
+            .exchange()
+            .expectStatus().isNoContent();
+        StockAggregatesDTO afterDeleteDTO = findStockAggregates();
+
+        // then
+        assertThat(aggregatesDTO.getByBrand().get(brand).getBeers(), is(2L));
+        assertThat(aggregatesDTO.getByBrand().get(brand).getUnits(), is(35L));
+        assertThat(aggregatesDTO.getByBrand().get(brand).getCapacity(), is(100L));
+        assertThat(afterDeleteDTO.getByBrand().get(brand).getBeers(), is(1L));
+        assertThat(afterDeleteDTO.getByBrand().get(brand).getUnits(), is(10L));
+    }
+
+    @Test
+    @DisplayName("When a streamed beer is decremented in a burst then its changes arrive coalesced")
+    void whenAStreamedBeerIsDecrementedInABurstThenItsChangesArriveCoalesced() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Bohemia"), 10, 50);
+        createBeer(uniqueName("Itaipava"), 10, 50);
+        Flux<ServerSentEvent<StockChangeDTO>> stream = this.webTestClient.get()
+            .uri("/api/v1/beer-changes?beerId={id}", createdBeerDTO.getId())
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .exchange()
+            .expectStatus().isOk()
+            .returnResult(new ParameterizedTypeReference<ServerSentEvent<StockChangeDTO>>() { })
+            .getResponseBody();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            patchQuantity("decrement", createdBeerDTO.getId(), 1)
+                .expectStatus().isOk();
+        }
+        List<StockChangeDTO> changes = stream
+            .filter(event -> event.data() != null)
+            .map(ServerSentEvent::data)
+            .takeUntil(change -> change.getBeer().getQuantity() == 7)
+            .collectList()
+            .block(Duration.ofSeconds(10));
+
+        // then
+        assertThat(changes.size(), is(lessThanOrEqualTo(3)));
+        assertThat(changes.stream().mapToInt(StockChangeDTO::getQuantityDelta).sum(), is(-3));
+        assertThat(changes.stream().mapToInt(StockChangeDTO::getChanges).sum(), is(3));
+        assertThat(changes.stream().allMatch(change ->
+            change.getBeer().getId().equals(createdBeerDTO.getId())), is(true));
+    }
+
+    @Test
+    @DisplayName("When a decrement is retried with the same idempotency key then stock moves once")
+    void whenADecrementIsRetriedWithTheSameIdempotencyKeyThenStockMovesOnce() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Kaiser"), 10, 50);
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            this.webTestClient.patch()
+                .uri(BEER_API_URL_PATH + "/decrement/{id}", createdBeerDTO.getId())
+                .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .bodyValue(new QuantityDTO(4))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.quantity").isEqualTo(6);
+        }
+
+        // then
+        assertThat(findByName(createdBeerDTO.getName()).getQuantity(), is(6));
+    }
+
+    @Test
+    @DisplayName("When a rejected decrement is retried with the same idempotency key then the rejection is replayed")
+    void whenARejectedDecrementIsRetriedWithTheSameIdempotencyKeyThenTheRejectionIsReplayed() {
+        // given
+        BeerDTO createdBeerDTO = createBeer(uniqueName("Kaiser"), 3, 50);
+        String idempotencyKey = UUID.randomUUID().toString();
+        this.webTestClient.patch()
+            .uri(BEER_API_URL_PATH + "/decrement/{id}", createdBeerDTO.getId())
+            .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .bodyValue(new QuantityDTO(4))
+            .exchange()
+            .expectStatus().isBadRequest();
+        this.webTestClient.patch()
+            .uri(BEER_API_URL_PATH + "/increment/{id}", createdBeerDTO.getId())
+            .bodyValue(new QuantityDTO(10))
+            .exchange()
+            .expectStatus().isOk();
+
+        // when
+        this.webTestClient.patch()
+            .uri(BEER_API_URL_PATH + "/decrement/{id}", createdBeerDTO.getId())
+            .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .bodyValue(new QuantityDTO(4))
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        // then
+        assertThat(findByName(createdBeerDTO.getName()).getQuantity(), is(13));
+    }
+
+    @Test
+    @DisplayName("When cursor is invalid then bad request is returned")
+    void whenCursorIsInvalidThenBadRequestIsReturned() {
+        this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "?cursor={cursor}", "not-a-cursor")
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private BeerDTO createBeer(String name, int quantity, int max) {
+        return createBeer(BeerDTOBuilder.builder()
+            .id(null)
+            .name(name)
+            .quantity(quantity)
+            .max(max)
+            .build()
+            .toBeerDto());
+    }
+
+    private BeerDTO createBeer(BeerDTO beerDTO) {
+        return this.webTestClient.post().uri(BEER_API_URL_PATH)
+            .bodyValue(beerDTO)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(BeerDTO.class)
+            .returnResult().getResponseBody();
+    }
+
+    private BeerDTO findByName(String name) {
+        return this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "/{name}", name)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(BeerDTO.class)
+            .returnResult().getResponseBody();
+    }
+
+    private BeerPageDTO findPage(String brand, String cursor) {
+        return this.webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path(BEER_API_URL_PATH)
+                .queryParam("brand", brand)
+                .queryParam("size", 2)
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(BeerPageDTO.class)
+            .returnResult().getResponseBody();
+    }
+
+    private BeerDTO brandedBeer(String brand, int quantity) {
+        return BeerDTOBuilder.builder()
+            .id(null)
+            .name(uniqueName("Stocked"))
+            .brand(brand)
+            .quantity(quantity)
+            .max(50)
+            .build()
+            .toBeerDto();
+    }
+
+    private BeerPageDTO findLowStockPage(String brand, String cursor) {
+        return this.webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path(BEER_API_URL_PATH + "/low-stock")
+                .queryParam("below", 25)
+                .queryParam("brand", brand)
+                .queryParam("size", 1)
+                .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(BeerPageDTO.class)
+            .returnResult().getResponseBody();
+    }
+
+    private StockAggregatesDTO findStockAggregates() {
+        return this.webTestClient.get()
+            .uri(BEER_API_URL_PATH + "/aggregates")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(StockAggregatesDTO.class)
+            .returnResult().getResponseBody();
+    }
+
+    private WebTestClient.ResponseSpec patchQuantity(String operation, UUID id, int quantity) {
+        return this.webTestClient.patch()
+            .uri(BEER_API_URL_PATH + "/{operation}/{id}", operation, id)
+            .bodyValue(new QuantityDTO(quantity))
+            .exchange();
+    }
+
+    private static String uniqueName(String prefix) {
+        return prefix + " " + UUID.randomUUID();
+    }
+
+}
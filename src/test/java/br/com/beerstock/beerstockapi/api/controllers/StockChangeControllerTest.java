@@ -0,0 +1,54 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeFilterDTO;
+import br.com.beerstock.beerstockapi.api.exception.StockStreamUnavailableException;
+import br.com.beerstock.beerstockapi.domain.streams.StockChangeStream;
+
+@ExtendWith(MockitoExtension.class)
+public class StockChangeControllerTest {
+
+    private static final String STOCK_CHANGES_URL_PATH = "/api/v1/beer-changes";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private StockChangeStream stockChangeStream;
+
+    @InjectMocks
+    private StockChangeController stockChangeController;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(stockChangeController).build();
+    }
+
+    @Test
+    @DisplayName("When GET stream is called with all subscriber slots taken then service unavailable is returned")
+    void whenGETStreamIsCalledWithAllSubscriberSlotsTakenThenServiceUnavailableIsReturned()
+        throws Exception {
+        // when
+        when(this.stockChangeStream.subscribe(any(StockChangeFilterDTO.class)))
+            .thenThrow(new StockStreamUnavailableException(100));
+
+        // then
+        mockMvc.perform(get(STOCK_CHANGES_URL_PATH).accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+}
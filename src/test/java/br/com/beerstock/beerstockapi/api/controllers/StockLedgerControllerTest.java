@@ -0,0 +1,76 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockLedgerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockMovementDTO;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+import br.com.beerstock.beerstockapi.domain.services.StockLedgerService;
+
+@ExtendWith(MockitoExtension.class)
+public class StockLedgerControllerTest {
+
+    private static final String BEER_API_URL_PATH = "/api/v1/beers";
+    private static final UUID BEER_ID = BeerDTOBuilder.generateValidBeerUUID();
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @InjectMocks
+    private StockLedgerController stockLedgerController;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(stockLedgerController).build();
+    }
+
+    @Test
+    @DisplayName("When GET movements is called then the derived quantity and movements are returned")
+    void whenGETMovementsIsCalledThenTheDerivedQuantityAndMovementsAreReturned() throws Exception {
+        // given
+        StockMovementDTO movementDTO = StockMovementDTO.builder()
+            .id(51)
+            .type(BeerChangeType.STOCK_CHANGED)
+            .delta(-2)
+            .createdAt(Instant.now())
+            .build();
+        StockLedgerDTO ledgerDTO = StockLedgerDTO.builder()
+            .beerId(BEER_ID)
+            .quantity(8)
+            .snapshotQuantity(10)
+            .movements(List.of(movementDTO))
+            .build();
+
+        // when
+        when(this.stockLedgerService.findLedger(BEER_ID, 10)).thenReturn(ledgerDTO);
+
+        // then
+        mockMvc.perform(get(BEER_API_URL_PATH + "/" + BEER_ID + "/movements").param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.quantity", is(8)))
+            .andExpect(jsonPath("$.snapshotQuantity", is(10)))
+            .andExpect(jsonPath("$.movements[0].delta", is(-2)))
+            .andExpect(jsonPath("$.movements[0].type", is(BeerChangeType.STOCK_CHANGED.toString())));
+    }
+
+}
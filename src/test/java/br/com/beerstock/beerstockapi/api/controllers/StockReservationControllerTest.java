@@ -0,0 +1,122 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockReservationDTO;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.exception.StockReservationNotFoundException;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.services.StockReservationService;
+
+@ExtendWith(MockitoExtension.class)
+public class StockReservationControllerTest {
+
+    private static final String BEER_API_URL_PATH = "/api/v1/beers";
+    private static final UUID BEER_ID = BeerDTOBuilder.generateValidBeerUUID();
+    private static final UUID RESERVATION_ID = UUID.fromString("6b0f4e4c-1a55-4a8e-9b8a-3f0d2c6a7e21");
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @InjectMocks
+    private StockReservationController stockReservationController;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(stockReservationController).build();
+    }
+
+    @Test
+    @DisplayName("When POST reservation is called without TTL then the default TTL is used")
+    void whenPOSTReservationIsCalledWithoutTTLThenTheDefaultTTLIsUsed() throws Exception {
+        // given
+        StockReservationDTO reservationDTO = StockReservationDTO.builder()
+            .id(RESERVATION_ID)
+            .beerId(BEER_ID)
+            .quantity(3)
+            .expiresAt(Instant.now().plusSeconds(300))
+            .build();
+
+        // when
+        when(this.stockReservationService.reserve(BEER_ID, 3, Duration.ofSeconds(300)))
+            .thenReturn(reservationDTO);
+
+        // then
+        mockMvc.perform(post(BEER_API_URL_PATH + "/" + BEER_ID + "/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 3}"))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id", is(RESERVATION_ID.toString())))
+            .andExpect(jsonPath("$.quantity", is(3)));
+    }
+
+    @Test
+    @DisplayName("When POST reservation is called with more than available then an error is returned")
+    void whenPOSTReservationIsCalledWithMoreThanAvailableThenAnErrorIsReturned() throws Exception {
+        // when
+        when(this.stockReservationService.reserve(BEER_ID, 30, Duration.ofSeconds(60)))
+            .thenThrow(new StockLessThenZeroException(BEER_ID, 30));
+
+        // then
+        mockMvc.perform(post(BEER_API_URL_PATH + "/" + BEER_ID + "/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 30, \"ttlSeconds\": 60}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("When POST reservation is called with invalid TTL then an error is returned")
+    void whenPOSTReservationIsCalledWithInvalidTTLThenAnErrorIsReturned() throws Exception {
+        mockMvc.perform(post(BEER_API_URL_PATH + "/" + BEER_ID + "/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"quantity\": 3, \"ttlSeconds\": 0}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("When POST commit is called with expired reservation then not found is returned")
+    void whenPOSTCommitIsCalledWithExpiredReservationThenNotFoundIsReturned() throws Exception {
+        // when
+        when(this.stockReservationService.commit(RESERVATION_ID))
+            .thenThrow(new StockReservationNotFoundException(RESERVATION_ID));
+
+        // then
+        mockMvc.perform(post(BEER_API_URL_PATH + "/reservations/" + RESERVATION_ID + "/commit"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("When DELETE reservation is called with unknown id then not found is returned")
+    void whenDELETEReservationIsCalledWithUnknownIdThenNotFoundIsReturned() throws Exception {
+        // when
+        doThrow(new StockReservationNotFoundException(RESERVATION_ID))
+            .when(this.stockReservationService).release(RESERVATION_ID);
+
+        // then
+        mockMvc.perform(delete(BEER_API_URL_PATH + "/reservations/" + RESERVATION_ID))
+            .andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,91 @@
+package br.com.beerstock.beerstockapi.api.controllers;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.beerstock.beerstockapi.api.dtos.StockShardsDTO;
+import br.com.beerstock.beerstockapi.api.exception.StockShardingConflictException;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.services.StockShardService;
+
+@ExtendWith(MockitoExtension.class)
+public class StockShardControllerTest {
+
+    private static final String BEER_API_URL_PATH = "/api/v1/beers";
+    private static final UUID BEER_ID = BeerDTOBuilder.generateValidBeerUUID();
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private StockShardService stockShardService;
+
+    @InjectMocks
+    private StockShardController stockShardController;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(stockShardController).build();
+    }
+
+    @Test
+    @DisplayName("When PUT shards is called with a valid count then the shards are returned")
+    void whenPUTShardsIsCalledWithAValidCountThenTheShardsAreReturned() throws Exception {
+        // given
+        StockShardsDTO shardsDTO = StockShardsDTO.builder()
+            .beerId(BEER_ID)
+            .quantity(10)
+            .shards(List.of(5, 5))
+            .build();
+
+        // when
+        when(this.stockShardService.enable(BEER_ID, 2)).thenReturn(shardsDTO);
+
+        // then
+        mockMvc.perform(put(BEER_API_URL_PATH + "/" + BEER_ID + "/shards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"count\": 2}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.quantity", is(10)))
+            .andExpect(jsonPath("$.shards[1]", is(5)));
+    }
+
+    @Test
+    @DisplayName("When PUT shards is called with an invalid count then an error is returned")
+    void whenPUTShardsIsCalledWithAnInvalidCountThenAnErrorIsReturned() throws Exception {
+        mockMvc.perform(put(BEER_API_URL_PATH + "/" + BEER_ID + "/shards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"count\": 0}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("When PUT shards is called on a beer with reservations then a conflict is returned")
+    void whenPUTShardsIsCalledOnABeerWithReservationsThenAConflictIsReturned() throws Exception {
+        // when
+        when(this.stockShardService.enable(BEER_ID, 4))
+            .thenThrow(new StockShardingConflictException(BEER_ID));
+
+        // then
+        mockMvc.perform(put(BEER_API_URL_PATH + "/" + BEER_ID + "/shards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"count\": 4}"))
+            .andExpect(status().isConflict());
+    }
+
+}
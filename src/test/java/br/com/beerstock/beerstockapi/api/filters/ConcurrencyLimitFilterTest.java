@@ -0,0 +1,113 @@
+package br.com.beerstock.beerstockapi.api.filters;
+
+import java.time.Duration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import br.com.beerstock.beerstockapi.domain.limits.AimdConcurrencyLimiter;
+
+public class ConcurrencyLimitFilterTest {
+
+    private static final String DECREMENT_PATH = "/api/v1/beers/decrement/1";
+
+    private AimdConcurrencyLimiter readLimiter;
+
+    private AimdConcurrencyLimiter writeLimiter;
+
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        this.readLimiter = new AimdConcurrencyLimiter(
+            "read", 5, 1, 10, 0.9, Duration.ofSeconds(1), meterRegistry);
+        this.writeLimiter = new AimdConcurrencyLimiter(
+            "write", 1, 1, 10, 0.9, Duration.ofSeconds(1), meterRegistry);
+        this.concurrencyLimitFilter = new ConcurrencyLimitFilter(
+            this.readLimiter, this.writeLimiter, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("When the write budget is exhausted then writes are shed while reads still pass")
+    void whenTheWriteBudgetIsExhaustedThenWritesAreShedWhileReadsStillPass() throws Exception {
+        // given
+        AimdConcurrencyLimiter.Permit inFlightWrite = this.writeLimiter.tryAcquire().orElseThrow();
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        MockHttpServletResponse readResponse = new MockHttpServletResponse();
+        MockFilterChain writeChain = new MockFilterChain();
+        MockFilterChain readChain = new MockFilterChain();
+
+        // when
+        this.concurrencyLimitFilter.doFilter(
+            new MockHttpServletRequest("PATCH", DECREMENT_PATH), writeResponse, writeChain);
+        this.concurrencyLimitFilter.doFilter(
+            new MockHttpServletRequest("GET", "/api/v1/beers/Brahma"), readResponse, readChain);
+        inFlightWrite.release(false);
+
+        // then
+        assertThat(writeResponse.getStatus(), equalTo(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        assertThat(writeResponse.getHeader(HttpHeaders.RETRY_AFTER), equalTo("2"));
+        assertThat(writeChain.getRequest(), is(nullValue()));
+        assertThat(readResponse.getStatus(), equalTo(HttpStatus.OK.value()));
+        assertThat(readChain.getRequest(), is(notNullValue()));
+        assertThat(this.readLimiter.getInFlight(), equalTo(0));
+    }
+
+    @Test
+    @DisplayName("When a write fails with a server error then the write limit backs off")
+    void whenAWriteFailsWithAServerErrorThenTheWriteLimitBacksOff() throws Exception {
+        // given
+        AimdConcurrencyLimiter writeLimiter = new AimdConcurrencyLimiter(
+            "write", 10, 1, 10, 0.5, Duration.ofSeconds(1), new SimpleMeterRegistry());
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            this.readLimiter, writeLimiter, Duration.ofSeconds(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("PATCH", DECREMENT_PATH), response,
+            (request, failedResponse) -> ((MockHttpServletResponse) failedResponse)
+                .setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value()));
+
+        // then
+        assertThat(writeLimiter.getLimit(), equalTo(5));
+        assertThat(writeLimiter.getInFlight(), equalTo(0));
+    }
+
+    @Test
+    @DisplayName("When a streamed response completes then its permit is released without a sample")
+    void whenAStreamedResponseCompletesThenItsPermitIsReleasedWithoutASample() throws Exception {
+        // given
+        AimdConcurrencyLimiter readLimiter = new AimdConcurrencyLimiter(
+            "read", 5, 1, 10, 0.5, Duration.ZERO, new SimpleMeterRegistry());
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            readLimiter, this.writeLimiter, Duration.ofSeconds(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/beer-exports");
+        request.setAsyncSupported(true);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (streamedRequest, streamedResponse) -> streamedRequest.startAsync());
+        int inFlightWhileStreaming = readLimiter.getInFlight();
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        // then
+        assertThat(inFlightWhileStreaming, equalTo(1));
+        assertThat(readLimiter.getInFlight(), equalTo(0));
+        assertThat(readLimiter.getLimit(), equalTo(5));
+    }
+
+}
@@ -27,6 +27,9 @@ public class BeerDTOBuilder {
     @Builder.Default
     private BeerType type = BeerType.LAGER;
 
+    @Builder.Default
+    private long version = 0;
+
     public BeerDTO toBeerDto() {
         return new BeerDTO(
             id,
@@ -34,7 +37,8 @@ public class BeerDTOBuilder {
             brand,
             max,
             quantity,
-            type);
+            type,
+            version);
     }
 
     public static UUID generateValidBeerUUID() {
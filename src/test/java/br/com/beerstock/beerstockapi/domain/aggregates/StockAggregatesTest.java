@@ -0,0 +1,150 @@
+package br.com.beerstock.beerstockapi.domain.aggregates;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAggregateDTO;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.api.repository.BeerStockAggregate;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+public class StockAggregatesTest {
+
+    @Mock
+    private BeerRepository beerRepository;
+
+    private StockAggregates stockAggregates;
+
+    @BeforeEach
+    void setUp() {
+        when(this.beerRepository.aggregateStockByTypeAndBrand()).thenReturn(List.of(
+            aggregate(BeerType.LAGER, "Ambev", 2L, 30L, 100L),
+            aggregate(BeerType.LAGER, "Heineken", 1L, 5L, 40L),
+            aggregate(BeerType.IPA, "Ambev", 1L, 7L, 20L)));
+        this.stockAggregates = new StockAggregates(this.beerRepository);
+    }
+
+    @Test
+    @DisplayName("When aggregates are rebuilt then every type and brand reports its totals")
+    void whenAggregatesAreRebuiltThenEveryTypeAndBrandReportsItsTotals() {
+        // then
+        assertThat(this.stockAggregates.ofType(BeerType.LAGER), equalTo(new StockAggregateDTO(3, 35, 140)));
+        assertThat(this.stockAggregates.ofType(BeerType.STOUT), equalTo(new StockAggregateDTO(0, 0, 0)));
+        assertThat(this.stockAggregates.ofBrand("Ambev"), equalTo(new StockAggregateDTO(3, 37, 120)));
+    }
+
+    @Test
+    @DisplayName("When committed changes are applied then the counters move by their deltas")
+    void whenCommittedChangesAreAppliedThenTheCountersMoveByTheirDeltas() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder()
+            .brand("Heineken").quantity(10).max(50).type(BeerType.IPA).build().toBeerDto();
+
+        // when
+        this.stockAggregates.apply(BeerChangedEvent.created(beerDTO));
+        this.stockAggregates.apply(BeerChangedEvent.stockChanged(beerDTO, -4));
+
+        // then
+        assertThat(this.stockAggregates.ofType(BeerType.IPA), equalTo(new StockAggregateDTO(2, 13, 70)));
+        assertThat(this.stockAggregates.ofBrand("Heineken"), equalTo(new StockAggregateDTO(2, 11, 90)));
+    }
+
+    @Test
+    @DisplayName("When the last beer of a brand is deleted then the brand leaves the snapshot")
+    void whenTheLastBeerOfABrandIsDeletedThenTheBrandLeavesTheSnapshot() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder()
+            .brand("Heineken").quantity(5).max(40).build().toBeerDto();
+
+        // when
+        this.stockAggregates.apply(BeerChangedEvent.deleted(beerDTO));
+
+        // then
+        assertThat(this.stockAggregates.ofType(BeerType.LAGER), equalTo(new StockAggregateDTO(2, 30, 100)));
+        assertThat(this.stockAggregates.snapshot().getByBrand(), not(hasKey("Heineken")));
+        assertThat(this.stockAggregates.snapshot().getByBrand(), hasKey("Ambev"));
+    }
+
+    @Test
+    @DisplayName("When aggregates are reconciled then changes made by other instances are picked up")
+    void whenAggregatesAreReconciledThenChangesMadeByOtherInstancesArePickedUp() {
+        // given
+        when(this.beerRepository.aggregateStockByTypeAndBrand()).thenReturn(List.of(
+            aggregate(BeerType.LAGER, "Ambev", 2L, 12L, 100L)));
+
+        // when
+        this.stockAggregates.reconcile();
+
+        // then
+        assertThat(this.stockAggregates.ofType(BeerType.LAGER), equalTo(new StockAggregateDTO(2, 12, 100)));
+        assertThat(this.stockAggregates.ofType(BeerType.IPA), equalTo(new StockAggregateDTO(0, 0, 0)));
+        assertThat(this.stockAggregates.snapshot().getByBrand(), not(hasKey("Heineken")));
+    }
+
+    @Test
+    @DisplayName("When a change commits while aggregates are reconciled then it is kept")
+    void whenAChangeCommitsWhileAggregatesAreReconciledThenItIsKept() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder()
+            .brand("Ambev").quantity(10).max(50).type(BeerType.LAGER).build().toBeerDto();
+        when(this.beerRepository.aggregateStockByTypeAndBrand()).thenAnswer(invocation -> {
+            this.stockAggregates.apply(BeerChangedEvent.stockChanged(beerDTO, -4));
+            return List.of(aggregate(BeerType.LAGER, "Ambev", 2L, 30L, 100L));
+        });
+
+        // when
+        this.stockAggregates.reconcile();
+
+        // then
+        assertThat(this.stockAggregates.ofType(BeerType.LAGER), equalTo(new StockAggregateDTO(2, 26, 100)));
+        assertThat(this.stockAggregates.ofBrand("Ambev"), equalTo(new StockAggregateDTO(2, 26, 100)));
+    }
+
+    private static BeerStockAggregate aggregate(
+        BeerType type, String brand, Long beers, Long units, Long capacity) {
+        return new BeerStockAggregate() {
+
+            @Override
+            public BeerType getType() {
+                return type;
+            }
+
+            @Override
+            public String getBrand() {
+                return brand;
+            }
+
+            @Override
+            public Long getBeers() {
+                return beers;
+            }
+
+            @Override
+            public Long getUnits() {
+                return units;
+            }
+
+            @Override
+            public Long getCapacity() {
+                return capacity;
+            }
+
+        };
+    }
+
+}
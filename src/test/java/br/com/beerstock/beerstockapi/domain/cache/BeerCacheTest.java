@@ -0,0 +1,105 @@
+package br.com.beerstock.beerstockapi.domain.cache;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import br.com.beerstock.beerstockapi.api.configuration.CacheConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+
+public class BeerCacheTest {
+
+    private BeerCache beerCache;
+
+    @BeforeEach
+    void setUp() {
+        this.beerCache = new BeerCache(
+            new ConcurrentMapCacheManager(CacheConfiguration.BEERS_BY_NAME_CACHE));
+    }
+
+    @Test
+    @DisplayName("When beer is put with current token then it is cached")
+    void whenBeerIsPutWithCurrentTokenThenItIsCached() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+
+        // when
+        this.beerCache.putIfNotInvalidatedSince(beerDTO, this.beerCache.readToken());
+
+        // then
+        assertThat(this.beerCache.findByName(beerDTO.getName()).isPresent(), is(true));
+    }
+
+    @Test
+    @DisplayName("When a write happens during the read then the stale beer is not cached")
+    void whenAWriteHappensDuringTheReadThenTheStaleBeerIsNotCached() {
+        // given
+        BeerDTO staleBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        long readToken = this.beerCache.readToken();
+
+        // when
+        this.beerCache.evict(staleBeerDTO);
+        this.beerCache.putIfNotInvalidatedSince(staleBeerDTO, readToken);
+
+        // then
+        assertThat(this.beerCache.findByName(staleBeerDTO.getName()).isPresent(), is(false));
+    }
+
+    @Test
+    @DisplayName("When an eviction lands between the token check and the put then the stale beer is not cached")
+    void whenAnEvictionLandsBetweenTheTokenCheckAndThePutThenTheStaleBeerIsNotCached() {
+        // given
+        BeerDTO staleBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        AtomicReference<BeerCache> beerCacheReference = new AtomicReference<>();
+        AtomicBoolean evicted = new AtomicBoolean();
+        BeerCache interleavedBeerCache = new BeerCache(new ConcurrentMapCacheManager(
+            CacheConfiguration.BEERS_BY_NAME_CACHE) {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    public void put(Object key, Object value) {
+                        if (evicted.compareAndSet(false, true)) {
+                            beerCacheReference.get().evict(staleBeerDTO);
+                        }
+                        super.put(key, value);
+                    }
+                };
+            }
+        });
+        beerCacheReference.set(interleavedBeerCache);
+
+        // when
+        interleavedBeerCache.putIfNotInvalidatedSince(staleBeerDTO, interleavedBeerCache.readToken());
+
+        // then
+        assertThat(evicted.get(), is(true));
+        assertThat(interleavedBeerCache.findByName(staleBeerDTO.getName()).isPresent(), is(false));
+    }
+
+    @Test
+    @DisplayName("When beer is evicted then it is no longer cached")
+    void whenBeerIsEvictedThenItIsNoLongerCached() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        this.beerCache.putIfNotInvalidatedSince(beerDTO, this.beerCache.readToken());
+
+        // when
+        this.beerCache.evict(beerDTO);
+
+        // then
+        assertThat(this.beerCache.findByName(beerDTO.getName()).isPresent(), is(false));
+        assertThat(this.beerCache.readToken(), is(equalTo(1L)));
+    }
+
+}
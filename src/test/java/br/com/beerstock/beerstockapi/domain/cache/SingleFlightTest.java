@@ -0,0 +1,93 @@
+package br.com.beerstock.beerstockapi.domain.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+
+    private final CountDownLatch releaseLoad = new CountDownLatch(1);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("When the shared load fails then every waiting caller gets its exception")
+    void whenTheSharedLoadFailsThenEveryWaitingCallerGetsItsException() throws Exception {
+        // given
+        Future<String> leader = this.executor.submit(() -> this.singleFlight.execute("Brahma", 0, () -> {
+            this.loads.incrementAndGet();
+            this.loadStarted.countDown();
+            this.releaseLoad.await(5, TimeUnit.SECONDS);
+            throw new BeerNotFoundException("Brahma");
+        }));
+        this.loadStarted.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<String> follower = this.executor.submit(() -> this.singleFlight.execute("Brahma", 0, () -> {
+            this.loads.incrementAndGet();
+            return "second load";
+        }));
+        Thread.sleep(200);
+        this.releaseLoad.countDown();
+
+        // then
+        Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertThat(leaderError.getCause(), instanceOf(BeerNotFoundException.class));
+        assertThat(followerError.getCause(), instanceOf(BeerNotFoundException.class));
+        assertThat(this.loads.get(), equalTo(1));
+        assertThat(this.singleFlight.inFlight(), equalTo(0));
+    }
+
+    @Test
+    @DisplayName("When a write happened after the load started then a new caller does not join it")
+    void whenAWriteHappenedAfterTheLoadStartedThenANewCallerDoesNotJoinIt() throws Exception {
+        // given
+        Future<String> staleLoad = this.executor.submit(() -> this.singleFlight.execute("Brahma", 0, () -> {
+            this.loadStarted.countDown();
+            this.releaseLoad.await(5, TimeUnit.SECONDS);
+            return "before write";
+        }));
+        this.loadStarted.await(5, TimeUnit.SECONDS);
+
+        // when
+        String freshValue = this.singleFlight.execute("Brahma", 1, () -> "after write");
+        this.releaseLoad.countDown();
+
+        // then
+        assertThat(freshValue, equalTo("after write"));
+        assertThat(staleLoad.get(5, TimeUnit.SECONDS), equalTo("before write"));
+        assertThat(this.singleFlight.inFlight(), equalTo(0));
+    }
+
+}
@@ -0,0 +1,235 @@
+package br.com.beerstock.beerstockapi.domain.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.exception.IdempotencyKeyReusedException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+
+@SpringBootTest
+public class IdempotencyStoreTest {
+
+    private static final UUID BEER_ID = BeerDTOBuilder.generateValidBeerUUID();
+
+    private final BeerDTO beerDTO = BeerDTOBuilder.builder().quantity(5).build().toBeerDto();
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("When a stock error is replayed then the same error is thrown without running again")
+    void whenAStockErrorIsReplayedThenTheSameErrorIsThrownWithoutRunningAgain() {
+        // given
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        StockLessThenZeroException error = new StockLessThenZeroException(BEER_ID, 5);
+        IdempotencyStore.StockOperation operation = () -> {
+            executions.incrementAndGet();
+            throw error;
+        };
+
+        // then
+        assertThrows(StockLessThenZeroException.class, () -> this.idempotencyStore.execute(
+            key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation));
+        StockLessThenZeroException replayed = assertThrows(StockLessThenZeroException.class,
+            () -> this.idempotencyStore.execute(key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation));
+        assertThat(replayed.getMessage(), equalTo(error.getMessage()));
+        assertThat(executions.get(), equalTo(1));
+    }
+
+    @Test
+    @DisplayName("When an unexpected error happens then a retry with the same key runs again")
+    void whenAnUnexpectedErrorHappensThenARetryWithTheSameKeyRunsAgain() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        IdempotencyStore.StockOperation operation = () -> {
+            if (executions.incrementAndGet() == 1) {
+                throw new IllegalStateException("connection reset");
+            }
+            return this.beerDTO;
+        };
+
+        // when
+        assertThrows(IllegalStateException.class, () -> this.idempotencyStore.execute(
+            key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation));
+        BeerDTO retriedDTO = this.idempotencyStore.execute(
+            key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation);
+
+        // then
+        assertThat(retriedDTO, equalTo(this.beerDTO));
+        assertThat(executions.get(), equalTo(2));
+    }
+
+    @Test
+    @DisplayName("When the operation throws an error then a retry with the same key runs again")
+    void whenTheOperationThrowsAnErrorThenARetryWithTheSameKeyRunsAgain() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        IdempotencyStore.StockOperation operation = () -> {
+            if (executions.incrementAndGet() == 1) {
+                throw new StackOverflowError();
+            }
+            return this.beerDTO;
+        };
+
+        // when
+        assertThrows(StackOverflowError.class, () -> this.idempotencyStore.execute(
+            key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation));
+        BeerDTO retriedDTO = this.idempotencyStore.execute(
+            key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation);
+
+        // then
+        assertThat(retriedDTO, equalTo(this.beerDTO));
+        assertThat(executions.get(), equalTo(2));
+    }
+
+    @Test
+    @DisplayName("When a key is reused for another quantity then the request is rejected")
+    void whenAKeyIsReusedForAnotherQuantityThenTheRequestIsRejected() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        this.idempotencyStore.execute(key, IdempotencyStore.DECREMENT, BEER_ID, 5, () -> this.beerDTO);
+
+        // then
+        assertThrows(IdempotencyKeyReusedException.class, () -> this.idempotencyStore.execute(
+            key, IdempotencyStore.DECREMENT, BEER_ID, 6, () -> this.beerDTO));
+    }
+
+    @Test
+    @DisplayName("When another instance receives the retry then the first result is replayed")
+    void whenAnotherInstanceReceivesTheRetryThenTheFirstResultIsReplayed() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        IdempotencyStore.StockOperation operation = () -> {
+            executions.incrementAndGet();
+            return this.beerDTO;
+        };
+        IdempotencyStore otherInstance = new IdempotencyStore(
+            this.jdbcTemplate, this.transactionTemplate, this.objectMapper, Duration.ofHours(1));
+
+        // when
+        this.idempotencyStore.execute(key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation);
+        BeerDTO replayedDTO = otherInstance.execute(key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation);
+
+        // then
+        assertThat(replayedDTO, equalTo(this.beerDTO));
+        assertThat(executions.get(), equalTo(1));
+    }
+
+    @Test
+    @DisplayName("When a key has expired then the request runs again")
+    void whenAKeyHasExpiredThenTheRequestRunsAgain() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        IdempotencyStore.StockOperation operation = () -> {
+            executions.incrementAndGet();
+            return this.beerDTO;
+        };
+        this.idempotencyStore.execute(key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation);
+        this.jdbcTemplate.update("update idempotency_key set expires_at = ? where idempotency_key = ?",
+            Timestamp.from(Instant.now().minusSeconds(1)), key);
+
+        // when
+        this.idempotencyStore.execute(key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation);
+
+        // then
+        assertThat(executions.get(), equalTo(2));
+    }
+
+    @Test
+    @DisplayName("When expired keys are purged then unexpired keys are kept")
+    void whenExpiredKeysArePurgedThenUnexpiredKeysAreKept() throws Exception {
+        // given
+        String expiredKey = UUID.randomUUID().toString();
+        String key = UUID.randomUUID().toString();
+        this.idempotencyStore.execute(expiredKey, IdempotencyStore.DECREMENT, BEER_ID, 5, () -> this.beerDTO);
+        this.idempotencyStore.execute(key, IdempotencyStore.DECREMENT, BEER_ID, 5, () -> this.beerDTO);
+        this.jdbcTemplate.update("update idempotency_key set expires_at = ? where idempotency_key = ?",
+            Timestamp.from(Instant.now().minusSeconds(1)), expiredKey);
+
+        // when
+        this.idempotencyStore.purgeExpired();
+
+        // then
+        assertThat(countOf(expiredKey), equalTo(0));
+        assertThat(countOf(key), equalTo(1));
+    }
+
+    @Test
+    @DisplayName("When duplicates arrive concurrently then they wait for the in-flight execution")
+    void whenDuplicatesArriveConcurrentlyThenTheyWaitForTheInFlightExecution() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IdempotencyStore.StockOperation operation = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return this.beerDTO;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<BeerDTO> first = executor.submit(() -> this.idempotencyStore.execute(
+                key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation));
+            started.await(5, TimeUnit.SECONDS);
+            Future<BeerDTO> duplicate = executor.submit(() -> this.idempotencyStore.execute(
+                key, IdempotencyStore.DECREMENT, BEER_ID, 5, operation));
+            Thread.sleep(200);
+            release.countDown();
+
+            // then
+            assertThat(duplicate.get(5, TimeUnit.SECONDS), equalTo(first.get(5, TimeUnit.SECONDS)));
+            assertThat(executions.get(), equalTo(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int countOf(String key) {
+        return this.jdbcTemplate.queryForObject(
+            "select count(*) from idempotency_key where idempotency_key = ?", Integer.class, key);
+    }
+
+}
@@ -0,0 +1,101 @@
+package br.com.beerstock.beerstockapi.domain.identity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class TimeOrderedUuidTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    private final TimeOrderedUuid timeOrderedUuid = new TimeOrderedUuid(this.clock::get);
+
+    @Test
+    @DisplayName("When an id is generated then it carries the version 7 layout and the clock timestamp")
+    void whenAnIdIsGeneratedThenItCarriesTheVersion7LayoutAndTheClockTimestamp() {
+        // when
+        UUID id = this.timeOrderedUuid.generate();
+
+        // then
+        assertThat(id.version(), equalTo(7));
+        assertThat(id.variant(), equalTo(2));
+        assertThat(TimeOrderedUuid.timestampOf(id), equalTo(NOW));
+    }
+
+    @Test
+    @DisplayName("When ids are generated in the same millisecond or after the clock goes back then they keep increasing")
+    void whenIdsAreGeneratedInTheSameMillisecondOrAfterTheClockGoesBackThenTheyKeepIncreasing() {
+        // given
+        List<UUID> ids = new ArrayList<>();
+
+        // when
+        for (int index = 0; index < 5000; index++) {
+            ids.add(this.timeOrderedUuid.generate());
+        }
+        this.clock.set(NOW - 1000);
+        ids.add(this.timeOrderedUuid.generate());
+        this.clock.set(NOW + 1000);
+        ids.add(this.timeOrderedUuid.generate());
+
+        // then
+        for (int index = 1; index < ids.size(); index++) {
+            assertThat(compareUnsigned(ids.get(index - 1), ids.get(index)), lessThan(0));
+        }
+        assertThat(TimeOrderedUuid.timestampOf(ids.get(ids.size() - 1)), equalTo(NOW + 1000));
+    }
+
+    @Test
+    @DisplayName("When ids are generated concurrently then every id is unique and increasing per thread")
+    void whenIdsAreGeneratedConcurrentlyThenEveryIdIsUniqueAndIncreasingPerThread() throws Exception {
+        // given
+        int threads = 4;
+        int idsPerThread = 10000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<Boolean>> increasing = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            increasing.add(executor.submit(() -> {
+                UUID previous = null;
+                boolean ordered = true;
+                for (int index = 0; index < idsPerThread; index++) {
+                    UUID id = TimeOrderedUuid.next();
+                    ordered &= previous == null || compareUnsigned(previous, id) < 0;
+                    ids.add(id);
+                    previous = id;
+                }
+                return ordered;
+            }));
+        }
+        executor.shutdown();
+
+        // then
+        for (Future<Boolean> ordered : increasing) {
+            assertThat(ordered.get(), equalTo(true));
+        }
+        assertThat(ids.size(), equalTo(threads * idsPerThread));
+    }
+
+    private static int compareUnsigned(UUID first, UUID second) {
+        int mostSignificant = Long.compareUnsigned(
+            first.getMostSignificantBits(), second.getMostSignificantBits());
+        return mostSignificant != 0 ? mostSignificant
+            : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+
+}
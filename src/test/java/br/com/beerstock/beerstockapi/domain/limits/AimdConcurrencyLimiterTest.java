@@ -0,0 +1,123 @@
+package br.com.beerstock.beerstockapi.domain.limits;
+
+import java.time.Duration;
+import java.util.Optional;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import br.com.beerstock.beerstockapi.api.configuration.MetricsConfiguration;
+
+public class AimdConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("When the limit is reached then new permits are rejected and counted")
+    void whenTheLimitIsReachedThenNewPermitsAreRejectedAndCounted() {
+        // given
+        AimdConcurrencyLimiter limiter = limiter(2, Duration.ofSeconds(1));
+
+        // when
+        Optional<AimdConcurrencyLimiter.Permit> first = limiter.tryAcquire();
+        Optional<AimdConcurrencyLimiter.Permit> second = limiter.tryAcquire();
+        Optional<AimdConcurrencyLimiter.Permit> rejected = limiter.tryAcquire();
+
+        // then
+        assertThat(first.isPresent() && second.isPresent(), is(true));
+        assertThat(rejected.isPresent(), is(false));
+        assertThat(this.meterRegistry.get(MetricsConfiguration.CONCURRENCY_REJECTIONS)
+            .tag("budget", "write").counter().count(), equalTo(1.0));
+    }
+
+    @Test
+    @DisplayName("When requests are fast and the limit is in use then the limit grows by one")
+    void whenRequestsAreFastAndTheLimitIsInUseThenTheLimitGrowsByOne() {
+        // given
+        AimdConcurrencyLimiter limiter = limiter(2, Duration.ofSeconds(1));
+        AimdConcurrencyLimiter.Permit first = limiter.tryAcquire().orElseThrow();
+        AimdConcurrencyLimiter.Permit second = limiter.tryAcquire().orElseThrow();
+
+        // when
+        first.release(false);
+        second.release(false);
+        second.release(false);
+
+        // then
+        assertThat(limiter.getLimit(), equalTo(4));
+        assertThat(limiter.getInFlight(), equalTo(0));
+        assertThat(this.meterRegistry.get(MetricsConfiguration.CONCURRENCY_LIMIT)
+            .tag("budget", "write").gauge().value(), equalTo(4.0));
+    }
+
+    @Test
+    @DisplayName("When requests are slow or fail then the limit backs off down to its minimum")
+    void whenRequestsAreSlowOrFailThenTheLimitBacksOffDownToItsMinimum() {
+        // given
+        AimdConcurrencyLimiter limiter = limiter(10, Duration.ZERO);
+
+        // when
+        limiter.tryAcquire().orElseThrow().release(false);
+        int limitAfterSlowRequest = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().orElseThrow().release(true);
+        }
+
+        // then
+        assertThat(limitAfterSlowRequest, equalTo(9));
+        assertThat(limiter.getLimit(), equalTo(2));
+        assertThat(this.meterRegistry.get(MetricsConfiguration.CONCURRENCY_LIMIT_CHANGES)
+            .tag("budget", "write").tag("direction", "down").counter().count(), equalTo(8.0));
+    }
+
+    @Test
+    @DisplayName("When overlapping requests are slow then the limit backs off once for them")
+    void whenOverlappingRequestsAreSlowThenTheLimitBacksOffOnceForThem() {
+        // given
+        AimdConcurrencyLimiter limiter = limiter(10, Duration.ZERO);
+        AimdConcurrencyLimiter.Permit first = limiter.tryAcquire().orElseThrow();
+        AimdConcurrencyLimiter.Permit second = limiter.tryAcquire().orElseThrow();
+        AimdConcurrencyLimiter.Permit third = limiter.tryAcquire().orElseThrow();
+
+        // when
+        first.release(true);
+        second.release(true);
+        third.release(true);
+        int limitAfterOverlappingRequests = limiter.getLimit();
+        limiter.tryAcquire().orElseThrow().release(true);
+
+        // then
+        assertThat(limitAfterOverlappingRequests, equalTo(9));
+        assertThat(limiter.getLimit(), equalTo(8));
+    }
+
+    @Test
+    @DisplayName("When a permit is released without a sample then the limit is kept")
+    void whenAPermitIsReleasedWithoutASampleThenTheLimitIsKept() {
+        // given
+        AimdConcurrencyLimiter limiter = limiter(10, Duration.ZERO);
+
+        // when
+        limiter.tryAcquire().orElseThrow().releaseWithoutSample();
+
+        // then
+        assertThat(limiter.getLimit(), equalTo(10));
+        assertThat(limiter.getInFlight(), equalTo(0));
+    }
+
+    private AimdConcurrencyLimiter limiter(int initialLimit, Duration latencyThreshold) {
+        return new AimdConcurrencyLimiter(
+            "write", initialLimit, 2, 20, 0.9, latencyThreshold, this.meterRegistry);
+    }
+
+}
@@ -0,0 +1,144 @@
+package br.com.beerstock.beerstockapi.domain.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import br.com.beerstock.beerstockapi.api.configuration.MetricsConfiguration;
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.aggregates.StockAggregates;
+import br.com.beerstock.beerstockapi.domain.cache.BeerCache;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.routing.ReadYourWrites;
+import br.com.beerstock.beerstockapi.domain.services.BeerService;
+import br.com.beerstock.beerstockapi.domain.services.StockShardService;
+import br.com.beerstock.beerstockapi.domain.versioning.CatalogVersion;
+
+@ExtendWith(MockitoExtension.class)
+public class BeerServiceMetricsAspectTest {
+
+    @Mock
+    private BeerRepository beerRepository;
+
+    @Mock
+    private BeerCache beerCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private StockAggregates stockAggregates;
+
+    @Mock
+    private StockShardService stockShardService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BeerService beerService;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        BeerServiceMetricsAspect aspect = new BeerServiceMetricsAspect(this.meterRegistry);
+        AspectJProxyFactory repositoryProxyFactory = new AspectJProxyFactory(this.beerRepository);
+        repositoryProxyFactory.addInterface(BeerRepository.class);
+        repositoryProxyFactory.addAspect(aspect);
+        AspectJProxyFactory serviceProxyFactory = new AspectJProxyFactory(new BeerService(
+            repositoryProxyFactory.getProxy(), this.beerCache, this.eventPublisher,
+            this.catalogVersion, this.stockAggregates, this.stockShardService,
+            new ReadYourWrites(Duration.ofSeconds(2))));
+        serviceProxyFactory.setProxyTargetClass(true);
+        serviceProxyFactory.addAspect(aspect);
+        this.beerService = serviceProxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("When increment succeeds then it is timed as success with its database calls")
+    void whenIncrementSucceedsThenItIsTimedAsSuccessWithItsDatabaseCalls() throws Exception {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer beer = BeerMapper.INSTANCE.toBeer(beerDTO);
+        when(this.beerRepository.incrementQuantity(beerDTO.getId(), 5)).thenReturn(1);
+        when(this.beerRepository.findById(beerDTO.getId())).thenReturn(Optional.of(beer));
+
+        // when
+        this.beerService.increment(beerDTO.getId(), 5);
+
+        // then
+        assertThat(operationTimer("increment", "success").count(), equalTo(1L));
+        assertThat(dbCalls("increment").totalAmount(), equalTo(2.0));
+        assertThat(this.meterRegistry.get(MetricsConfiguration.REPOSITORY_CALLS)
+            .tag("method", "incrementQuantity").counter().count(), equalTo(1.0));
+    }
+
+    @Test
+    @DisplayName("When decrement goes below zero then it is timed as below-zero")
+    void whenDecrementGoesBelowZeroThenItIsTimedAsBelowZero() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer beer = BeerMapper.INSTANCE.toBeer(beerDTO);
+        when(this.beerRepository.decrementQuantity(beerDTO.getId(), 50)).thenReturn(0);
+        when(this.beerRepository.findById(beerDTO.getId())).thenReturn(Optional.of(beer));
+
+        // when
+        assertThrows(StockLessThenZeroException.class,
+            () -> this.beerService.decrement(beerDTO.getId(), 50));
+
+        // then
+        assertThat(operationTimer("decrement", "below-zero").count(), equalTo(1L));
+    }
+
+    @Test
+    @DisplayName("When beer is not found then the operation is timed as not-found")
+    void whenBeerIsNotFoundThenTheOperationIsTimedAsNotFound() {
+        // given
+        UUID id = BeerDTOBuilder.generateInvalidBeerUUID();
+        when(this.beerRepository.findAllByIdForUpdate(List.of(id))).thenReturn(List.of());
+
+        // when
+        assertThrows(BeerNotFoundException.class, () -> this.beerService.deleteById(id));
+
+        // then
+        assertThat(operationTimer("deleteById", "not-found").count(), equalTo(1L));
+        assertThat(dbCalls("deleteById").totalAmount(), equalTo(1.0));
+    }
+
+    private Timer operationTimer(String operation, String outcome) {
+        return this.meterRegistry.get(MetricsConfiguration.OPERATIONS_TIMER)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .timer();
+    }
+
+    private DistributionSummary dbCalls(String operation) {
+        return this.meterRegistry.get(MetricsConfiguration.OPERATION_DB_CALLS)
+            .tag("operation", operation)
+            .summary();
+    }
+
+}
@@ -0,0 +1,95 @@
+package br.com.beerstock.beerstockapi.domain.metrics;
+
+import java.util.List;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.when;
+
+import br.com.beerstock.beerstockapi.api.configuration.MetricsConfiguration;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.api.repository.BeerTypeStock;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+public class BeerStockMetricsTest {
+
+    @Mock
+    private BeerRepository beerRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BeerStockMetrics beerStockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.beerStockMetrics = new BeerStockMetrics(this.beerRepository, this.meterRegistry);
+    }
+
+    @Test
+    @DisplayName("When stock is refreshed then every beer type gauge reports its total")
+    void whenStockIsRefreshedThenEveryBeerTypeGaugeReportsItsTotal() {
+        // given
+        when(this.beerRepository.sumQuantityByType())
+            .thenReturn(List.of(typeStock(BeerType.LAGER, 120L), typeStock(BeerType.IPA, 7L)));
+
+        // when
+        this.beerStockMetrics.refreshStock();
+
+        // then
+        assertThat(stockGauge(BeerType.LAGER), equalTo(120.0));
+        assertThat(stockGauge(BeerType.IPA), equalTo(7.0));
+        assertThat(stockGauge(BeerType.STOUT), equalTo(0.0));
+    }
+
+    @Test
+    @DisplayName("When stock leaves then the transition is recorded as out")
+    void whenStockLeavesThenTheTransitionIsRecordedAsOut() {
+        // given
+        BeerChangedEvent event = BeerChangedEvent
+            .stockChanged(BeerDTOBuilder.builder().build().toBeerDto(), -3);
+
+        // when
+        this.beerStockMetrics.recordTransition(event);
+
+        // then
+        assertThat(this.meterRegistry.get(MetricsConfiguration.STOCK_TRANSITIONS)
+            .tag("change", "STOCK_CHANGED")
+            .tag("type", BeerType.LAGER.name())
+            .tag("direction", "out")
+            .summary().totalAmount(), equalTo(3.0));
+    }
+
+    private double stockGauge(BeerType type) {
+        return this.meterRegistry.get(MetricsConfiguration.STOCK_QUANTITY)
+            .tag("type", type.name())
+            .gauge().value();
+    }
+
+    private static BeerTypeStock typeStock(BeerType type, Long quantity) {
+        return new BeerTypeStock() {
+
+            @Override
+            public BeerType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getQuantity() {
+                return quantity;
+            }
+
+        };
+    }
+
+}
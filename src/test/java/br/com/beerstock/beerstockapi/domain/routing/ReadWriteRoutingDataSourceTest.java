@@ -0,0 +1,195 @@
+package br.com.beerstock.beerstockapi.domain.routing;
+
+import java.util.List;
+import java.util.UUID;
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.common.utils.JsonConversionUtils;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.services.BeerService;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "beerstock.datasource.replicas[0].url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+    "beerstock.datasource.replicas[0].username=sa",
+    "beerstock.datasource.replica-lag-query=select lag_seconds from replica_lag",
+    "beerstock.datasource.replica-lag-check-interval=3600000",
+    "beerstock.datasource.max-replica-lag=1s",
+    "beerstock.datasource.read-your-writes-window=" + ReadWriteRoutingDataSourceTest.READ_YOUR_WRITES_WINDOW_MILLIS
+})
+@AutoConfigureMockMvc
+public class ReadWriteRoutingDataSourceTest {
+
+    static final long READ_YOUR_WRITES_WINDOW_MILLIS = 5000;
+
+    private static final String BEER_API_URL_PATH = "/api/v1/beers";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BeerService beerService;
+
+    @Autowired
+    private BeerRepository beerRepository;
+
+    @Autowired
+    private ReplicaLagGuard replicaLagGuard;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    private JdbcTemplate replica;
+
+    private String brand;
+
+    @BeforeEach
+    void setUp() {
+        this.replica = new JdbcTemplate(this.replicaLagGuard.getReplicas().get(0));
+        this.replica.execute("drop all objects");
+        new JdbcTemplate(this.primaryDataSource)
+            .queryForList("script nodata", String.class)
+            .forEach(this.replica::execute);
+        this.replica.update("insert into catalog_version (id, version) values (1, 0)");
+        this.replica.execute("create table replica_lag (lag_seconds double precision)");
+        this.replica.update("insert into replica_lag values (0)");
+        this.replicaLagGuard.check();
+        this.brand = "Routing " + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.beerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("When the replica is in sync then catalog reads are served by the replica")
+    void whenTheReplicaIsInSyncThenCatalogReadsAreServedByTheReplica() throws Exception {
+        // given
+        saveOnPrimaryOnly();
+
+        // then
+        assertThat(findAllOfBrand(), is(empty()));
+    }
+
+    @Test
+    @DisplayName("When a beer was just written then reading it by name goes to the primary")
+    void whenABeerWasJustWrittenThenReadingItByNameGoesToThePrimary() throws Exception {
+        // given
+        BeerDTO createdBeerDTO = this.beerService.createBeer(newBeerDTO());
+
+        // when
+        BeerDTO foundBeerDTO = this.beerService.findByName(createdBeerDTO.getName());
+
+        // then
+        assertThat(foundBeerDTO.getId(), is(equalTo(createdBeerDTO.getId())));
+    }
+
+    @Test
+    @DisplayName("When a client just wrote then only its catalog reads go to the primary")
+    void whenAClientJustWroteThenOnlyItsCatalogReadsGoToThePrimary() throws Exception {
+        // given
+        Cookie lastWrite = this.mockMvc.perform(post(BEER_API_URL_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(JsonConversionUtils.asJsonString(newBeerDTO())))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getCookie(ReadYourWrites.LAST_WRITE_COOKIE);
+
+        // then
+        assertThat(lastWrite, is(notNullValue()));
+        this.mockMvc.perform(get(BEER_API_URL_PATH).param("brand", this.brand).cookie(lastWrite))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(1)));
+        this.mockMvc.perform(get(BEER_API_URL_PATH).param("brand", this.brand))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("When the catalog changes on the primary only then replica pages keep the replica tag")
+    void whenTheCatalogChangesOnThePrimaryOnlyThenReplicaPagesKeepTheReplicaTag() throws Exception {
+        // given
+        this.beerService.createBeer(newBeerDTO());
+
+        // when
+        this.mockMvc.perform(get(BEER_API_URL_PATH).param("brand", this.brand))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andExpect(jsonPath("$.items", hasSize(0)));
+        this.replica.update("update catalog_version set version = 1");
+
+        // then
+        this.mockMvc.perform(get(BEER_API_URL_PATH).param("brand", this.brand)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    @DisplayName("When the replica lags behind then reads fall back to the primary")
+    void whenTheReplicaLagsBehindThenReadsFallBackToThePrimary() throws Exception {
+        // given
+        saveOnPrimaryOnly();
+        this.replica.update("update replica_lag set lag_seconds = 30");
+
+        // when
+        this.replicaLagGuard.check();
+
+        // then
+        assertThat(findAllOfBrand(), hasSize(1));
+    }
+
+    private void saveOnPrimaryOnly() {
+        this.beerRepository.save(BeerMapper.INSTANCE.toBeer(newBeerDTO()));
+    }
+
+    private BeerDTO newBeerDTO() {
+        BeerDTO beerDTO = BeerDTOBuilder.builder()
+            .id(null)
+            .name("Routed " + UUID.randomUUID())
+            .build()
+            .toBeerDto();
+        beerDTO.setBrand(this.brand);
+        return beerDTO;
+    }
+
+    private List<BeerDTO> findAllOfBrand() throws Exception {
+        BeerFilterDTO filter = new BeerFilterDTO();
+        filter.setBrand(this.brand);
+        return this.beerService.findAll(filter, null, BeerService.DEFAULT_PAGE_SIZE).getItems();
+    }
+
+}
@@ -0,0 +1,110 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.ExportFormat;
+
+@ExtendWith(MockitoExtension.class)
+public class BeerExportServiceTest {
+
+    @Mock
+    private BeerRepository beerRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    private BeerExportService beerExportService;
+
+    @BeforeEach
+    void setUp() {
+        this.beerExportService = new BeerExportService(
+            this.beerRepository, this.entityManager, this.objectMapper);
+    }
+
+    @Test
+    @DisplayName("When NDJSON export is called then one JSON document per beer is written")
+    void whenNDJSONExportIsCalledThenOneJsonDocumentPerBeerIsWritten() throws IOException {
+        // given
+        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer expectedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        when(this.beerRepository.streamAll()).thenReturn(Stream.of(expectedBeer));
+        this.beerExportService.export(ExportFormat.NDJSON, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines.length, is(equalTo(1)));
+        assertThat(this.objectMapper.readValue(lines[0], BeerDTO.class),
+            is(equalTo(expectedBeerDTO)));
+        verify(this.entityManager, never()).clear();
+    }
+
+    @Test
+    @DisplayName("When CSV export is called then header and escaped rows are written")
+    void whenCSVExportIsCalledThenHeaderAndEscapedRowsAreWritten() throws IOException {
+        // given
+        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder()
+            .name("Brahma, \"Extra\"").build().toBeerDto();
+        Beer expectedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        when(this.beerRepository.streamAll()).thenReturn(Stream.of(expectedBeer));
+        this.beerExportService.export(ExportFormat.CSV, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0], is(equalTo("id,name,brand,max,quantity,type")));
+        assertThat(lines[1], is(equalTo(String.format(
+            "%s,\"Brahma, \"\"Extra\"\"\",Ambev,50,10,LAGER", expectedBeerDTO.getId()))));
+    }
+
+    @Test
+    @DisplayName("When export goes past the clear interval then the persistence context is cleared")
+    void whenExportGoesPastTheClearIntervalThenThePersistenceContextIsCleared() throws IOException {
+        // given
+        Beer beer = this.beerMapper.toBeer(BeerDTOBuilder.builder().build().toBeerDto());
+        Stream<Beer> beers = IntStream.range(0, BeerExportService.CLEAR_INTERVAL * 2 + 1)
+            .mapToObj(index -> beer);
+
+        // when
+        when(this.beerRepository.streamAll()).thenReturn(beers);
+        this.beerExportService.export(ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        // then
+        verify(this.entityManager, times(2)).clear();
+    }
+
+}
@@ -0,0 +1,140 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerImportJobDTO;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.ImportFormat;
+import br.com.beerstock.beerstockapi.domain.enums.ImportJobStatus;
+import br.com.beerstock.beerstockapi.domain.jobs.BeerImportJob;
+
+@ExtendWith(MockitoExtension.class)
+public class BeerImportJobRunnerTest {
+
+    @Mock
+    private BeerRepository beerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BeerImportJobRunner beerImportJobRunner;
+
+    @BeforeEach
+    void setUp() {
+        this.beerImportJobRunner = new BeerImportJobRunner(
+            this.beerRepository,
+            new TransactionTemplate(this.transactionManager),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            this.objectMapper,
+            this.eventPublisher);
+    }
+
+    @Test
+    @DisplayName("When JSON array is imported then valid beers are saved in chunks")
+    void whenJSONArrayIsImportedThenValidBeersAreSavedInChunks() throws IOException {
+        // given
+        List<BeerDTO> beerDTOs = IntStream.range(0, BeerImportJobRunner.CHUNK_SIZE + 1)
+            .mapToObj(index -> BeerDTOBuilder.builder().name("Beer " + index).build().toBeerDto())
+            .collect(Collectors.toList());
+        Path file = Files.createTempFile("beers", ".json");
+        Files.writeString(file, this.objectMapper.writeValueAsString(beerDTOs));
+        BeerImportJob job = new BeerImportJob(ImportFormat.JSON);
+
+        // when
+        when(this.beerRepository.findExistingNames(anyCollection())).thenReturn(Set.of());
+        this.beerImportJobRunner.run(job, file);
+
+        // then
+        BeerImportJobDTO jobDTO = job.toBeerImportJobDTO();
+        assertThat(jobDTO.getStatus(), is(equalTo(ImportJobStatus.COMPLETED)));
+        assertThat(jobDTO.getImported(), is(equalTo((long) beerDTOs.size())));
+        verify(this.beerRepository, times(2)).saveAll(anyCollection());
+        assertThat(Files.exists(file), is(false));
+    }
+
+    @Test
+    @DisplayName("When CSV has invalid and duplicated rows then they are rejected")
+    @SuppressWarnings("unchecked")
+    void whenCSVHasInvalidAndDuplicatedRowsThenTheyAreRejected() throws IOException {
+        // given
+        String csv = String.join("\n",
+            "name,brand,max,quantity,type",
+            "Brahma,Ambev,50,10,LAGER",
+            "Skol,,50,10,LAGER",
+            "Stella,Ambev,50,10,LAGER",
+            "Stella,Ambev,50,10,LAGER",
+            "Original,Ambev,50,10,LAGER");
+        Path file = Files.createTempFile("beers", ".csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        BeerImportJob job = new BeerImportJob(ImportFormat.CSV);
+        ArgumentCaptor<Collection<Beer>> savedBeers = ArgumentCaptor.forClass(Collection.class);
+
+        // when
+        when(this.beerRepository.findExistingNames(anyCollection())).thenReturn(Set.of("Brahma"));
+        this.beerImportJobRunner.run(job, file);
+
+        // then
+        BeerImportJobDTO jobDTO = job.toBeerImportJobDTO();
+        verify(this.beerRepository).saveAll(savedBeers.capture());
+        assertThat(jobDTO.getStatus(), is(equalTo(ImportJobStatus.COMPLETED)));
+        assertThat(jobDTO.getProcessed(), is(equalTo(5L)));
+        assertThat(jobDTO.getImported(), is(equalTo(2L)));
+        assertThat(jobDTO.getRejected(), is(equalTo(3L)));
+        assertThat(jobDTO.getErrors().size(), is(equalTo(3)));
+        assertThat(savedBeers.getValue().stream().map(Beer::getName).collect(Collectors.toList()),
+            is(equalTo(List.of("Stella", "Original"))));
+    }
+
+    @Test
+    @DisplayName("When file is malformed then the job fails")
+    void whenFileIsMalformedThenTheJobFails() throws IOException {
+        // given
+        Path file = Files.createTempFile("beers", ".json");
+        Files.writeString(file, "[{\"name\":");
+        BeerImportJob job = new BeerImportJob(ImportFormat.JSON);
+
+        // when
+        this.beerImportJobRunner.run(job, file);
+
+        // then
+        assertThat(job.toBeerImportJobDTO().getStatus(), is(equalTo(ImportJobStatus.FAILED)));
+    }
+
+}
@@ -0,0 +1,63 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import br.com.beerstock.beerstockapi.api.exception.BeerImportRejectedException;
+import br.com.beerstock.beerstockapi.domain.enums.ImportFormat;
+import br.com.beerstock.beerstockapi.domain.enums.ImportJobStatus;
+import br.com.beerstock.beerstockapi.domain.jobs.BeerImportJob;
+
+@ExtendWith(MockitoExtension.class)
+public class BeerImportServiceTest {
+
+    private static final String CSV_BODY = "name,brand,max,quantity,type\n";
+
+    @Mock
+    private BeerImportJobRunner beerImportJobRunner;
+
+    private BeerImportService beerImportService;
+
+    @BeforeEach
+    void setUp() {
+        this.beerImportService = new BeerImportService(this.beerImportJobRunner, 1, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("When the import executor rejects the job then it fails and its file is deleted")
+    void whenTheImportExecutorRejectsTheJobThenItFailsAndItsFileIsDeleted() {
+        // given
+        AtomicReference<BeerImportJob> rejectedJob = new AtomicReference<>();
+        AtomicReference<Path> rejectedFile = new AtomicReference<>();
+        doAnswer(invocation -> {
+            rejectedJob.set(invocation.getArgument(0));
+            rejectedFile.set(invocation.getArgument(1));
+            throw new TaskRejectedException("import queue is full");
+        }).when(this.beerImportJobRunner).run(any(BeerImportJob.class), any(Path.class));
+
+        // then
+        assertThrows(BeerImportRejectedException.class, () -> this.beerImportService
+            .startImport(ImportFormat.CSV, new ByteArrayInputStream(CSV_BODY.getBytes(StandardCharsets.UTF_8))));
+        assertThat(rejectedJob.get().getStatus(), is(equalTo(ImportJobStatus.FAILED)));
+        assertThat(Files.exists(rejectedFile.get()), is(false));
+    }
+
+}
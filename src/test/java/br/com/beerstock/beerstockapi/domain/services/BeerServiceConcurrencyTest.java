@@ -0,0 +1,209 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockShardsDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+
+@SpringBootTest
+public class BeerServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 20;
+
+    @Autowired
+    private BeerService beerService;
+
+    @Autowired
+    private BeerRepository beerRepository;
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BeerDTO hotBeerDTO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BeerDTO beerDTO = BeerDTOBuilder.builder()
+            .id(null)
+            .name("Hot " + UUID.randomUUID())
+            .max(500)
+            .quantity(0)
+            .build()
+            .toBeerDto();
+        this.hotBeerDTO = this.beerService.createBeer(beerDTO);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        inTransaction(() -> this.beerRepository.deleteBeerById(this.hotBeerDTO.getId()));
+    }
+
+    @Test
+    @DisplayName("When a stock update arrives while a delete is in flight then the delete wins")
+    void whenAStockUpdateArrivesWhileADeleteIsInFlightThenTheDeleteWins() throws Exception {
+        // given
+        UUID id = this.hotBeerDTO.getId();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        List<Future<BeerDTO>> increments = new ArrayList<>();
+
+        // when
+        try {
+            inTransaction(() -> {
+                this.beerService.deleteById(id);
+                increments.add(executorService.submit(() -> this.beerService.increment(id, 1)));
+                Thread.sleep(200);
+                return null;
+            });
+
+            // then
+            ExecutionException increment = assertThrows(ExecutionException.class,
+                () -> increments.get(0).get());
+            assertThat(increment.getCause(), is(instanceOf(BeerNotFoundException.class)));
+            assertThat(this.beerRepository.findById(id).isPresent(), is(false));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("When many threads increment the same beer then no update is lost")
+    void whenManyThreadsIncrementTheSameBeerThenNoUpdateIsLost() throws Exception {
+        // when
+        int successes = runConcurrently(() -> {
+            this.beerService.increment(this.hotBeerDTO.getId(), 1);
+            return true;
+        });
+
+        // then
+        int expectedQuantity = THREADS * OPERATIONS_PER_THREAD;
+        assertThat(successes, is(equalTo(expectedQuantity)));
+        assertThat(currentQuantity(), is(equalTo(expectedQuantity)));
+    }
+
+    @Test
+    @DisplayName("When many threads decrement the same beer then stock never goes below zero")
+    void whenManyThreadsDecrementTheSameBeerThenStockNeverGoesBelowZero() throws Exception {
+        // given
+        int initialQuantity = THREADS * OPERATIONS_PER_THREAD / 2;
+        this.beerService.increment(this.hotBeerDTO.getId(), initialQuantity);
+
+        // when
+        int successes = runConcurrently(() -> {
+            try {
+                this.beerService.decrement(this.hotBeerDTO.getId(), 1);
+                return true;
+            } catch (StockLessThenZeroException e) {
+                return false;
+            }
+        });
+
+        // then
+        assertThat(successes, is(equalTo(initialQuantity)));
+        assertThat(currentQuantity(), is(equalTo(0)));
+    }
+
+    @Test
+    @DisplayName("When many threads decrement the same sharded beer then stock never goes below zero")
+    void whenManyThreadsDecrementTheSameShardedBeerThenStockNeverGoesBelowZero() throws Exception {
+        // given
+        int initialQuantity = THREADS * OPERATIONS_PER_THREAD / 2;
+        this.beerService.increment(this.hotBeerDTO.getId(), initialQuantity);
+        this.stockShardService.enable(this.hotBeerDTO.getId(), 8);
+
+        // when
+        int successes = runConcurrently(() -> {
+            try {
+                this.beerService.decrement(this.hotBeerDTO.getId(), 1);
+                return true;
+            } catch (StockLessThenZeroException e) {
+                return false;
+            }
+        });
+
+        // then
+        StockShardsDTO shardsDTO = this.stockShardService.findShards(this.hotBeerDTO.getId());
+        assertThat(successes, is(equalTo(initialQuantity)));
+        assertThat(shardsDTO.getQuantity(), is(equalTo(0)));
+        assertThat(shardsDTO.getShards(), everyItem(is(equalTo(0))));
+    }
+
+    private int currentQuantity() {
+        return this.beerRepository.findById(this.hotBeerDTO.getId())
+            .orElseThrow()
+            .getQuantity();
+    }
+
+    private int runConcurrently(Callable<Boolean> operation) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                results.add(executorService.submit(() -> {
+                    startSignal.await();
+                    int successes = 0;
+                    for (int operations = 0; operations < OPERATIONS_PER_THREAD; operations++) {
+                        if (operation.call()) {
+                            successes++;
+                        }
+                    }
+                    return successes;
+                }));
+            }
+            startSignal.countDown();
+            int successes = 0;
+            for (Future<Integer> result : results) {
+                successes += result.get();
+            }
+            return successes;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void inTransaction(Callable<?> work) throws Exception {
+        try {
+            new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+                try {
+                    work.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (IllegalStateException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+}
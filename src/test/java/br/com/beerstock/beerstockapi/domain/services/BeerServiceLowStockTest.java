@@ -0,0 +1,150 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentDTO;
+import br.com.beerstock.beerstockapi.api.exception.InvalidCursorException;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentMode;
+import br.com.beerstock.beerstockapi.domain.pagination.Cursor;
+
+@SpringBootTest
+public class BeerServiceLowStockTest {
+
+    private static final String BEER_STOCK_COLUMNS_MIGRATION =
+        "db/migration/V5__add_beer_stock_columns.sql";
+
+    @Autowired
+    private BeerService beerService;
+
+    @Autowired
+    private BeerStockAdjustmentService beerStockAdjustmentService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String brand = "Low stock " + UUID.randomUUID();
+
+    private final List<BeerDTO> createdBeers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (BeerDTO beerDTO : this.createdBeers) {
+            this.beerService.deleteById(beerDTO.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("When stock changes then low stock beers are ranked by their current fill ratio")
+    void whenStockChangesThenLowStockBeersAreRankedByTheirCurrentFillRatio() throws Exception {
+        // given
+        BeerDTO decrementedBeerDTO = createBeer(40);
+        BeerDTO adjustedBeerDTO = createBeer(30);
+        BeerDTO incrementedBeerDTO = createBeer(5);
+        BeerDTO emptyBeerDTO = createBeer(0);
+
+        // when
+        this.beerService.decrement(decrementedBeerDTO.getId(), 36);
+        this.beerStockAdjustmentService.adjust(
+            List.of(new StockAdjustmentDTO(adjustedBeerDTO.getId(), -28)), StockAdjustmentMode.ATOMIC);
+        this.beerService.increment(incrementedBeerDTO.getId(), 40);
+
+        // then
+        assertThat(findLowStockIds(25, null, 10), contains(
+            emptyBeerDTO.getId(), adjustedBeerDTO.getId(), decrementedBeerDTO.getId()));
+    }
+
+    @Test
+    @DisplayName("When low stock is paged then every beer below the threshold is returned once")
+    void whenLowStockIsPagedThenEveryBeerBelowTheThresholdIsReturnedOnce() throws Exception {
+        // given
+        BeerDTO firstBeerDTO = createBeer(1);
+        BeerDTO secondBeerDTO = createBeer(2);
+        createBeer(50);
+
+        // when
+        BeerPageDTO firstPage = findLowStock(10, null, 1);
+        BeerPageDTO secondPage = findLowStock(10, firstPage.getNext(), 1);
+
+        // then
+        assertThat(idsOf(firstPage), contains(firstBeerDTO.getId()));
+        assertThat(idsOf(secondPage), contains(secondBeerDTO.getId()));
+        assertThat(secondPage.getNext(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("When beers predate the fill ratio column then the migration backfill ranks them")
+    void whenBeersPredateTheFillRatioColumnThenTheMigrationBackfillRanksThem() throws Exception {
+        // given
+        BeerDTO emptyBeerDTO = createBeer(0);
+        this.jdbcTemplate.update("update beer set fill_ratio = 1 where brand = ?", this.brand);
+        assertThat(findLowStockIds(25, null, 10), is(empty()));
+
+        // when
+        new ResourceDatabasePopulator(new ClassPathResource(BEER_STOCK_COLUMNS_MIGRATION))
+            .execute(this.dataSource);
+
+        // then
+        assertThat(findLowStockIds(25, null, 10), contains(emptyBeerDTO.getId()));
+    }
+
+    @Test
+    @DisplayName("When low stock cursor does not hold a fill ratio then it is rejected")
+    void whenLowStockCursorDoesNotHoldAFillRatioThenItIsRejected() {
+        String catalogCursor = Cursor.of("Brahma", UUID.randomUUID()).encode();
+
+        assertThrows(InvalidCursorException.class, () -> findLowStock(10, catalogCursor, 1));
+    }
+
+    private BeerDTO createBeer(int quantity) throws Exception {
+        BeerDTO beerDTO = this.beerService.createBeer(BeerDTOBuilder.builder()
+            .id(null)
+            .name("Stocked " + UUID.randomUUID())
+            .brand(this.brand)
+            .quantity(quantity)
+            .max(50)
+            .build()
+            .toBeerDto());
+        this.createdBeers.add(beerDTO);
+        return beerDTO;
+    }
+
+    private BeerPageDTO findLowStock(double below, String cursor, int size) throws Exception {
+        return this.beerService.findLowStock(
+            below, BeerFilterDTO.builder().brand(this.brand).build(), cursor, size);
+    }
+
+    private List<UUID> findLowStockIds(double below, String cursor, int size) throws Exception {
+        return idsOf(findLowStock(below, cursor, size));
+    }
+
+    private static List<UUID> idsOf(BeerPageDTO beerPageDTO) {
+        return beerPageDTO.getItems().stream().map(BeerDTO::getId).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,98 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+
+@SpringBootTest
+public class BeerServiceSearchTest {
+
+    @Autowired
+    private BeerService beerService;
+
+    private final String brand = "Search " + UUID.randomUUID();
+
+    private final List<BeerDTO> createdBeers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (BeerDTO beerDTO : this.createdBeers) {
+            this.beerService.deleteById(beerDTO.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("When catalog is filtered by quantity range then bounds are inclusive")
+    void whenCatalogIsFilteredByQuantityRangeThenBoundsAreInclusive() throws Exception {
+        // given
+        createBeer("A", BeerType.LAGER, 4, 50);
+        BeerDTO lowerBoundBeerDTO = createBeer("B", BeerType.LAGER, 5, 50);
+        BeerDTO upperBoundBeerDTO = createBeer("C", BeerType.LAGER, 15, 50);
+        createBeer("D", BeerType.LAGER, 16, 50);
+
+        // when
+        List<UUID> ids = search(BeerFilterDTO.builder().quantityFrom(5).quantityTo(15));
+
+        // then
+        assertThat(ids, contains(lowerBoundBeerDTO.getId(), upperBoundBeerDTO.getId()));
+    }
+
+    @Test
+    @DisplayName("When type, quantity and max filters are combined then all of them apply")
+    void whenTypeQuantityAndMaxFiltersAreCombinedThenAllOfThemApply() throws Exception {
+        // given
+        BeerDTO matchingBeerDTO = createBeer("A", BeerType.IPA, 20, 200);
+        createBeer("B", BeerType.LAGER, 20, 200);
+        createBeer("C", BeerType.IPA, 20, 50);
+        createBeer("D", BeerType.IPA, 2, 200);
+
+        // when
+        List<UUID> ids = search(BeerFilterDTO.builder()
+            .type(BeerType.IPA)
+            .quantityFrom(10)
+            .maxFrom(100));
+
+        // then
+        assertThat(ids, contains(matchingBeerDTO.getId()));
+        assertThat(search(BeerFilterDTO.builder().quantityFrom(30).quantityTo(10)), is(empty()));
+    }
+
+    private BeerDTO createBeer(String suffix, BeerType type, int quantity, int max) throws Exception {
+        BeerDTO beerDTO = this.beerService.createBeer(BeerDTOBuilder.builder()
+            .id(null)
+            .name(this.brand + " " + suffix)
+            .brand(this.brand)
+            .type(type)
+            .quantity(quantity)
+            .max(max)
+            .build()
+            .toBeerDto());
+        this.createdBeers.add(beerDTO);
+        return beerDTO;
+    }
+
+    private List<UUID> search(BeerFilterDTO.BeerFilterDTOBuilder filter) throws Exception {
+        return this.beerService.findAll(filter.brand(this.brand).build(), null, BeerService.MAX_PAGE_SIZE)
+            .getItems()
+            .stream()
+            .map(BeerDTO::getId)
+            .collect(Collectors.toList());
+    }
+
+}
@@ -1,15 +1,32 @@
 package br.com.beerstock.beerstockapi.domain.services;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -17,21 +34,36 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerFilterDTO;
+import br.com.beerstock.beerstockapi.api.dtos.BeerPageDTO;
 import br.com.beerstock.beerstockapi.api.exception.BeerAlreadyRegisteredException;
 import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
 import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.InvalidCursorException;
 import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
 import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
 import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
 import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.cache.BeerCache;
 import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import br.com.beerstock.beerstockapi.domain.pagination.Cursor;
+import br.com.beerstock.beerstockapi.domain.routing.ReadYourWrites;
+import br.com.beerstock.beerstockapi.domain.versioning.CatalogVersion;
 
 import static br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder.generateInvalidBeerUUID;;
 
@@ -43,11 +75,98 @@ public class BeerServiceTest {
     @Mock
     private BeerRepository beerRepository;
 
+    @Mock
+    private BeerCache beerCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Spy
+    private ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(2));
+
     private final BeerMapper beerMapper = BeerMapper.INSTANCE;
 
     @InjectMocks
     private BeerService beerService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(this.catalogVersion.readTagged(any()))
+            .thenAnswer(invocation -> invocation.<Supplier<BeerPageDTO>>getArgument(0).get());
+    }
+
+    @Test
+    @DisplayName("When many callers look up the same name concurrently then one query is shared")
+    void whenManyCallersLookUpTheSameNameConcurrentlyThenOneQueryIsShared() throws Exception {
+        // given
+        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            queryStarted.countDown();
+            releaseQuery.await(5, TimeUnit.SECONDS);
+            return Optional.of(this.beerMapper.toBeer(expectedBeerDTO));
+        }).when(this.beerRepository).findByName(expectedBeerDTO.getName());
+
+        // when
+        List<BeerDTO> foundBeerDTOs = callConcurrently(16, queryStarted, releaseQuery,
+            () -> this.beerService.findByName(expectedBeerDTO.getName()));
+
+        // then
+        assertThat(foundBeerDTOs.stream().allMatch(expectedBeerDTO::equals), is(true));
+        verify(this.beerRepository, times(1)).findByName(expectedBeerDTO.getName());
+    }
+
+    @Test
+    @DisplayName("When many callers request the same catalog page concurrently then one query is shared")
+    @SuppressWarnings("unchecked")
+    void whenManyCallersRequestTheSameCatalogPageConcurrentlyThenOneQueryIsShared() throws Exception {
+        // given
+        Beer beer = this.beerMapper.toBeer(BeerDTOBuilder.builder().build().toBeerDto());
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            queryStarted.countDown();
+            releaseQuery.await(5, TimeUnit.SECONDS);
+            return List.of(beer);
+        }).when(this.beerRepository).findAll(
+            any(Specification.class), any(Sort.class), eq(BeerService.DEFAULT_PAGE_SIZE + 1));
+
+        // when
+        List<BeerPageDTO> beerPageDTOs = callConcurrently(16, queryStarted, releaseQuery,
+            () -> this.beerService.findAll(new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE));
+
+        // then
+        assertThat(beerPageDTOs.stream().allMatch(page -> page.getItems().size() == 1), is(true));
+        verify(this.beerRepository, times(1)).findAll(
+            any(Specification.class), any(Sort.class), eq(BeerService.DEFAULT_PAGE_SIZE + 1));
+    }
+
+    private static <T> List<T> callConcurrently(int callers, CountDownLatch queryStarted,
+        CountDownLatch releaseQuery, Callable<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            Future<T> leader = executor.submit(call);
+            queryStarted.await(5, TimeUnit.SECONDS);
+            List<Future<T>> followers = IntStream.range(1, callers)
+                .mapToObj(i -> executor.submit(call))
+                .collect(Collectors.toList());
+            Thread.sleep(300);
+            releaseQuery.countDown();
+            List<T> results = new ArrayList<>();
+            results.add(leader.get(5, TimeUnit.SECONDS));
+            for (Future<T> follower : followers) {
+                results.add(follower.get(5, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void whenBeerInformedThenItShouldBeCreated() throws BeerAlreadyRegisteredException {
         // given
@@ -69,6 +188,10 @@ public class BeerServiceTest {
         assertThat(createdBeerDTO.getId(), is(equalTo(expectedBeerDTO.getId())));
         assertThat(createdBeerDTO.getName(), is(equalTo(expectedBeerDTO.getName())));
         assertThat(createdBeerDTO.getQuantity(), is(equalTo(expectedBeerDTO.getQuantity())));
+
+        ArgumentCaptor<BeerChangedEvent> event = ArgumentCaptor.forClass(BeerChangedEvent.class);
+        verify(this.eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getType(), is(equalTo(BeerChangeType.CREATED)));
     }
 
     @Test
@@ -105,6 +228,40 @@ public class BeerServiceTest {
         assertThat(foundBeerDTO, is(equalTo(expectedFoundBeerDTO)));
     }
 
+    @Test
+    @DisplayName("When cached beer name is given then return it without querying the database")
+    void whenCachedBeerNameIsGivenThenReturnItWithoutQueryingTheDatabase() throws BeerNotFoundException {
+        // given
+        BeerDTO expectedFoundBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+
+        // when
+        when(this.beerCache.findByName(expectedFoundBeerDTO.getName()))
+            .thenReturn(Optional.of(expectedFoundBeerDTO));
+
+        // then
+        BeerDTO foundBeerDTO = this.beerService.findByName(expectedFoundBeerDTO.getName());
+
+        assertThat(foundBeerDTO, is(equalTo(expectedFoundBeerDTO)));
+        verify(this.beerRepository, never()).findByName(anyString());
+    }
+
+    @Test
+    @DisplayName("When beer name is loaded from the database then it is offered to the cache")
+    void whenBeerNameIsLoadedFromTheDatabaseThenItIsOfferedToTheCache() throws BeerNotFoundException {
+        // given
+        BeerDTO expectedFoundBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer expectedFoundBeer = this.beerMapper.toBeer(expectedFoundBeerDTO);
+
+        // when
+        when(this.beerCache.readToken()).thenReturn(7L);
+        when(this.beerRepository.findByName(expectedFoundBeer.getName()))
+            .thenReturn(Optional.of(expectedFoundBeer));
+
+        // then
+        this.beerService.findByName(expectedFoundBeer.getName());
+        verify(this.beerCache).putIfNotInvalidatedSince(expectedFoundBeerDTO, 7L);
+    }
+
     @Test
     @DisplayName("When not registered beer name is given then throw an exception")
     void whenNotRegisteredBeerNameIsGivenThenThrowAnException() {
@@ -121,32 +278,80 @@ public class BeerServiceTest {
 
     @Test
     @DisplayName("When list beer is called then return a list of beers")
-    void WhenListBeerIsCalledThenReturnAListOfBeers() {
+    void WhenListBeerIsCalledThenReturnAListOfBeers() throws InvalidCursorException {
         // given
         BeerDTO expectedFoundBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
         Beer expectedFoundBeer = this.beerMapper.toBeer(expectedFoundBeerDTO);
 
         // when
-        when(this.beerRepository.findAll())
+        when(this.beerRepository.findAll(
+                any(Specification.class), any(Sort.class), eq(BeerService.DEFAULT_PAGE_SIZE + 1)))
             .thenReturn(Collections.singletonList(expectedFoundBeer));
         // then
-        List<BeerDTO> foundListBeersDTO = this.beerService.findAll();
+        BeerPageDTO foundBeerPageDTO = this.beerService
+            .findAll(new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE);
 
-        assertThat(foundListBeersDTO, is(not(empty())));
-        assertThat(foundListBeersDTO.get(0), is(equalTo(expectedFoundBeerDTO)));
+        assertThat(foundBeerPageDTO.getItems(), is(not(empty())));
+        assertThat(foundBeerPageDTO.getItems().get(0), is(equalTo(expectedFoundBeerDTO)));
+        assertThat(foundBeerPageDTO.getNext(), is(nullValue()));
     }
 
     @Test
     @DisplayName("When list beer is called then return an empty list of beers")
-    void WhenListBeerIsCalledThenReturnAnEmptyListOfBeers() {
+    void WhenListBeerIsCalledThenReturnAnEmptyListOfBeers() throws InvalidCursorException {
         // when
-        when(this.beerRepository.findAll())
-            .thenReturn(Collections.EMPTY_LIST);
+        when(this.beerRepository.findAll(
+                any(Specification.class), any(Sort.class), eq(BeerService.DEFAULT_PAGE_SIZE + 1)))
+            .thenReturn(Collections.emptyList());
 
         // then
-        List<BeerDTO> foundListBeersDTO = this.beerService.findAll();
+        BeerPageDTO foundBeerPageDTO = this.beerService
+            .findAll(new BeerFilterDTO(), null, BeerService.DEFAULT_PAGE_SIZE);
 
-        assertThat(foundListBeersDTO, is(empty()));
+        assertThat(foundBeerPageDTO.getItems(), is(empty()));
+        assertThat(foundBeerPageDTO.getNext(), is(nullValue()));
+    }
+
+    @Test
+    @DisplayName("When list beer has more rows than page size then return next cursor")
+    void WhenListBeerHasMoreRowsThanPageSizeThenReturnNextCursor() throws InvalidCursorException {
+        // given
+        Beer firstBeer = this.beerMapper.toBeer(BeerDTOBuilder.builder().build().toBeerDto());
+        Beer secondBeer = this.beerMapper.toBeer(BeerDTOBuilder.builder()
+            .id(INVALID_BEER_ID).name("Skol").build().toBeerDto());
+
+        // when
+        when(this.beerRepository.findAll(any(Specification.class), any(Sort.class), eq(2)))
+            .thenReturn(List.of(firstBeer, secondBeer));
+
+        // then
+        BeerPageDTO foundBeerPageDTO = this.beerService.findAll(new BeerFilterDTO(), null, 1);
+        Cursor nextCursor = Cursor.decode(foundBeerPageDTO.getNext());
+
+        assertThat(foundBeerPageDTO.getItems().size(), is(equalTo(1)));
+        assertThat(nextCursor.getKey(), is(equalTo(firstBeer.getName())));
+        assertThat(nextCursor.getId(), is(equalTo(firstBeer.getId())));
+    }
+
+    @Test
+    @DisplayName("When list beer is called with page size above the cap then the cap is used")
+    void WhenListBeerIsCalledWithPageSizeAboveTheCapThenTheCapIsUsed() throws InvalidCursorException {
+        // when
+        when(this.beerRepository.findAll(
+                any(Specification.class), any(Sort.class), eq(BeerService.MAX_PAGE_SIZE + 1)))
+            .thenReturn(Collections.emptyList());
+
+        // then
+        this.beerService.findAll(new BeerFilterDTO(), null, BeerService.MAX_PAGE_SIZE * 10);
+        verify(this.beerRepository, times(1))
+            .findAll(any(Specification.class), any(Sort.class), eq(BeerService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("When list beer is called with invalid cursor then throw an exception")
+    void WhenListBeerIsCalledWithInvalidCursorThenThrowAnException() {
+        assertThrows(InvalidCursorException.class,
+            () -> this.beerService.findAll(new BeerFilterDTO(), "not-a-cursor", 10));
     }
 
     @Test
@@ -157,23 +362,22 @@ public class BeerServiceTest {
         Beer expectedDeletedBeer = this.beerMapper.toBeer(expectedDeletedBeerDTO);
 
         // when
-        when(this.beerRepository.findById(expectedDeletedBeer.getId()))
-            .thenReturn(Optional.of(expectedDeletedBeer));
-        doNothing().when(this.beerRepository)
-            .deleteById(expectedDeletedBeerDTO.getId());
+        when(this.beerRepository.findAllByIdForUpdate(List.of(expectedDeletedBeer.getId())))
+            .thenReturn(List.of(expectedDeletedBeer));
+        when(this.beerRepository.deleteBeerById(expectedDeletedBeerDTO.getId())).thenReturn(1);
 
         // then
         this.beerService.deleteById(expectedDeletedBeerDTO.getId());
-        verify(this.beerRepository, times(1)).findById(expectedDeletedBeerDTO.getId());
-        verify(this.beerRepository, times(1)).deleteById(expectedDeletedBeerDTO.getId());
+        verify(this.beerRepository, times(1)).findAllByIdForUpdate(List.of(expectedDeletedBeerDTO.getId()));
+        verify(this.beerRepository, times(1)).deleteBeerById(expectedDeletedBeerDTO.getId());
     }
 
     @Test
     @DisplayName("When exclusion is called with valid Id then a beer should be deleted")
     public void whenExclusionIsCalledWithAnInvalidIdThenThrowAnException() throws BeerNotFoundException {
         //when 
-        when(this.beerRepository.findById(this.INVALID_BEER_ID))
-            .thenReturn(Optional.empty());
+        when(this.beerRepository.findAllByIdForUpdate(List.of(this.INVALID_BEER_ID)))
+            .thenReturn(List.of());
         
         // then
         assertThrows(BeerNotFoundException.class,
@@ -186,16 +390,18 @@ public class BeerServiceTest {
         throws BeerNotFoundException, BeerStockExceededException {
         // given
         BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
-        Beer expectedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        final int QUANTITY_TO_INCREMENT = 10;
+        int expectedQuantityAfterIncrement = expectedBeerDTO.getQuantity()
+            + QUANTITY_TO_INCREMENT;
+        Beer incrementedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        incrementedBeer.setQuantity(expectedQuantityAfterIncrement);
 
         // when
+        when(this.beerRepository.incrementQuantity(expectedBeerDTO.getId(), QUANTITY_TO_INCREMENT))
+            .thenReturn(1);
         when(this.beerRepository.findById(expectedBeerDTO.getId()))
-            .thenReturn(Optional.of(expectedBeer));
-        when(this.beerRepository.save(expectedBeer)).thenReturn(expectedBeer);
+            .thenReturn(Optional.of(incrementedBeer));
 
-        final int QUANTITY_TO_INCREMENT = 10;
-        int expectedQuantityAfterIncrement = expectedBeer.getQuantity()
-            + QUANTITY_TO_INCREMENT;
         BeerDTO incrementedBeerDTO = this.beerService
             .increment(expectedBeerDTO.getId(), QUANTITY_TO_INCREMENT);
         
@@ -206,6 +412,8 @@ public class BeerServiceTest {
         assertThat(
             expectedQuantityAfterIncrement,
             lessThan(incrementedBeerDTO.getMax()));
+        verify(this.beerRepository, never()).save(any(Beer.class));
+        verify(this.eventPublisher).publishEvent(any(BeerChangedEvent.class));
     }
 
     @Test
@@ -213,29 +421,17 @@ public class BeerServiceTest {
     void whenIncrementIsGreatherThanMaxThenThrowException() {
         BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
         Beer expectedBeer = beerMapper.toBeer(expectedBeerDTO);
+        final int QUANTITY_TO_INCREMENT = 80;
 
+        when(this.beerRepository.incrementQuantity(expectedBeerDTO.getId(), QUANTITY_TO_INCREMENT))
+            .thenReturn(0);
         when(this.beerRepository.findById(expectedBeerDTO.getId()))
             .thenReturn(Optional.of(expectedBeer));
-            final int QUANTITY_TO_INCREMENT = 80;
-        assertThrows(BeerStockExceededException.class, () ->
-            this.beerService.increment(
-                expectedBeerDTO.getId(),
-                QUANTITY_TO_INCREMENT));
-    }
-
-    @Test
-    @DisplayName("When increment after sum is greather than max then throw exception")
-    void whenIncrementAfterSumIsGreatherThanMaxThenThrowException() {
-        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
-        Beer expectedBeer = beerMapper.toBeer(expectedBeerDTO);
-
-        when(this.beerRepository.findById(expectedBeerDTO.getId()))
-            .thenReturn(Optional.of(expectedBeer));
-            final int QUANTITY_TO_INCREMENT = 45;
         assertThrows(BeerStockExceededException.class, () ->
             this.beerService.increment(
                 expectedBeerDTO.getId(),
                 QUANTITY_TO_INCREMENT));
+        verify(this.eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -244,6 +440,8 @@ public class BeerServiceTest {
         final int QUANTITY_TO_INCREMENT = 10;
 
         //when
+        when(this.beerRepository.incrementQuantity(INVALID_BEER_ID, QUANTITY_TO_INCREMENT))
+            .thenReturn(0);
         when(this.beerRepository.findById(INVALID_BEER_ID))
             .thenReturn(Optional.empty());
 
@@ -258,16 +456,18 @@ public class BeerServiceTest {
         throws BeerNotFoundException, StockLessThenZeroException {
         // given
         BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
-        Beer expectedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        final int QUANTITY_TO_DECREMENT = 5;
+        int expectedQuantityAfterDecrement = expectedBeerDTO.getQuantity()
+            - QUANTITY_TO_DECREMENT;
+        Beer decrementedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        decrementedBeer.setQuantity(expectedQuantityAfterDecrement);
 
         // when
+        when(this.beerRepository.decrementQuantity(expectedBeerDTO.getId(), QUANTITY_TO_DECREMENT))
+            .thenReturn(1);
         when(this.beerRepository.findById(expectedBeerDTO.getId()))
-            .thenReturn(Optional.of(expectedBeer));
-        when(this.beerRepository.save(expectedBeer)).thenReturn(expectedBeer);
+            .thenReturn(Optional.of(decrementedBeer));
 
-        final int QUANTITY_TO_DECREMENT = 5;
-        int expectedQuantityAfterDecrement = expectedBeer.getQuantity()
-            - QUANTITY_TO_DECREMENT;
         BeerDTO decrementedBeerDTO = this.beerService
             .decrement(expectedBeerDTO.getId(), QUANTITY_TO_DECREMENT);
 
@@ -278,32 +478,20 @@ public class BeerServiceTest {
         assertThat(
             expectedQuantityAfterDecrement,
             lessThan(decrementedBeerDTO.getMax()));
+        verify(this.beerRepository, never()).save(any(Beer.class));
     }
 
     @Test
-    @DisplayName("When decrement is greather than max stock then throw exception")
-    void whenDecrementIsGreatherThanMaxStockThenThrowException() {
+    @DisplayName("When decrement is greather than current stock then throw exception")
+    void whenDecrementIsGreatherThanCurrentStockThenThrowException() {
         BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
         Beer expectedBeer = beerMapper.toBeer(expectedBeerDTO);
-
-        when(this.beerRepository.findById(expectedBeerDTO.getId()))
-            .thenReturn(Optional.of(expectedBeer));
         final int QUANTITY_TO_DECREMENT = 80;
-        assertThrows(StockLessThenZeroException.class, () ->
-            this.beerService.decrement(
-                expectedBeerDTO.getId(),
-                QUANTITY_TO_DECREMENT));
-    }
-
-    @Test
-    @DisplayName("When decrement after subtract is greather than min stock then throw exception")
-    void whenDecrementAfterSubtractIsGreatherThanMaxStockThenThrowException() {
-        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
-        Beer expectedBeer = beerMapper.toBeer(expectedBeerDTO);
 
+        when(this.beerRepository.decrementQuantity(expectedBeerDTO.getId(), QUANTITY_TO_DECREMENT))
+            .thenReturn(0);
         when(this.beerRepository.findById(expectedBeerDTO.getId()))
             .thenReturn(Optional.of(expectedBeer));
-        final int QUANTITY_TO_DECREMENT = 60;
         assertThrows(StockLessThenZeroException.class, () ->
             this.beerService.decrement(
                 expectedBeerDTO.getId(),
@@ -316,6 +504,8 @@ public class BeerServiceTest {
         final int QUANTITY_TO_DECREMENT = 10;
 
         //when
+        when(this.beerRepository.decrementQuantity(INVALID_BEER_ID, QUANTITY_TO_DECREMENT))
+            .thenReturn(0);
         when(this.beerRepository.findById(INVALID_BEER_ID))
             .thenReturn(Optional.empty());
 
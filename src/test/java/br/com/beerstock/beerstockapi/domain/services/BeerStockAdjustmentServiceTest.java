@@ -0,0 +1,159 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentResultDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerNotFoundException;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentMode;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentStatus;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+import static br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder.generateInvalidBeerUUID;
+
+@ExtendWith(MockitoExtension.class)
+public class BeerStockAdjustmentServiceTest {
+
+    @Mock
+    private BeerRepository beerRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    @InjectMocks
+    private BeerStockAdjustmentService beerStockAdjustmentService;
+
+    @Test
+    @DisplayName("When adjustments are valid then all of them are applied in order")
+    void whenAdjustmentsAreValidThenAllOfThemAreAppliedInOrder() throws Exception {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer beer = this.beerMapper.toBeer(beerDTO);
+        List<StockAdjustmentDTO> adjustments = List.of(
+            new StockAdjustmentDTO(beerDTO.getId(), 30),
+            new StockAdjustmentDTO(beerDTO.getId(), -15));
+
+        // when
+        when(this.beerRepository.findAllByIdForUpdate(Set.of(beerDTO.getId())))
+            .thenReturn(List.of(beer));
+        List<StockAdjustmentResultDTO> results = this.beerStockAdjustmentService
+            .adjust(adjustments, StockAdjustmentMode.ATOMIC);
+
+        // then
+        assertThat(results.get(0).getStatus(), is(equalTo(StockAdjustmentStatus.APPLIED)));
+        assertThat(results.get(0).getQuantity(), is(equalTo(40)));
+        assertThat(results.get(1).getQuantity(), is(equalTo(25)));
+        assertThat(beer.getQuantity(), is(equalTo(25)));
+        verify(this.eventPublisher, times(1)).publishEvent(any(BeerChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("When an atomic adjustment exceeds max then throw exception")
+    void whenAnAtomicAdjustmentExceedsMaxThenThrowException() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer beer = this.beerMapper.toBeer(beerDTO);
+        List<StockAdjustmentDTO> adjustments = List.of(
+            new StockAdjustmentDTO(beerDTO.getId(), 100));
+
+        // when
+        when(this.beerRepository.findAllByIdForUpdate(Set.of(beerDTO.getId())))
+            .thenReturn(List.of(beer));
+
+        // then
+        assertThrows(BeerStockExceededException.class, () -> this.beerStockAdjustmentService
+            .adjust(adjustments, StockAdjustmentMode.ATOMIC));
+        verify(this.eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("When an atomic adjustment goes below zero then throw exception")
+    void whenAnAtomicAdjustmentGoesBelowZeroThenThrowException() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer beer = this.beerMapper.toBeer(beerDTO);
+        List<StockAdjustmentDTO> adjustments = List.of(
+            new StockAdjustmentDTO(beerDTO.getId(), -20));
+
+        // when
+        when(this.beerRepository.findAllByIdForUpdate(Set.of(beerDTO.getId())))
+            .thenReturn(List.of(beer));
+
+        // then
+        assertThrows(StockLessThenZeroException.class, () -> this.beerStockAdjustmentService
+            .adjust(adjustments, StockAdjustmentMode.ATOMIC));
+    }
+
+    @Test
+    @DisplayName("When an atomic adjustment targets an unknown beer then throw exception")
+    void whenAnAtomicAdjustmentTargetsAnUnknownBeerThenThrowException() {
+        // given
+        List<StockAdjustmentDTO> adjustments = List.of(
+            new StockAdjustmentDTO(generateInvalidBeerUUID(), 1));
+
+        // when
+        when(this.beerRepository.findAllByIdForUpdate(Set.of(generateInvalidBeerUUID())))
+            .thenReturn(List.of());
+
+        // then
+        assertThrows(BeerNotFoundException.class, () -> this.beerStockAdjustmentService
+            .adjust(adjustments, StockAdjustmentMode.ATOMIC));
+    }
+
+    @Test
+    @DisplayName("When per item adjustments fail then the others are still applied")
+    void whenPerItemAdjustmentsFailThenTheOthersAreStillApplied() throws Exception {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer beer = this.beerMapper.toBeer(beerDTO);
+        List<StockAdjustmentDTO> adjustments = List.of(
+            new StockAdjustmentDTO(beerDTO.getId(), 100),
+            new StockAdjustmentDTO(generateInvalidBeerUUID(), 1),
+            new StockAdjustmentDTO(beerDTO.getId(), -20),
+            new StockAdjustmentDTO(beerDTO.getId(), 5));
+
+        // when
+        when(this.beerRepository.findAllByIdForUpdate(
+                Set.of(beerDTO.getId(), generateInvalidBeerUUID())))
+            .thenReturn(List.of(beer));
+        List<StockAdjustmentResultDTO> results = this.beerStockAdjustmentService
+            .adjust(adjustments, StockAdjustmentMode.PER_ITEM);
+
+        // then
+        assertThat(results.get(0).getStatus(), is(equalTo(StockAdjustmentStatus.EXCEEDED)));
+        assertThat(results.get(1).getStatus(), is(equalTo(StockAdjustmentStatus.NOT_FOUND)));
+        assertThat(results.get(1).getQuantity(), is(nullValue()));
+        assertThat(results.get(2).getStatus(), is(equalTo(StockAdjustmentStatus.BELOW_ZERO)));
+        assertThat(results.get(3).getStatus(), is(equalTo(StockAdjustmentStatus.APPLIED)));
+        assertThat(beer.getQuantity(), is(equalTo(15)));
+    }
+
+}
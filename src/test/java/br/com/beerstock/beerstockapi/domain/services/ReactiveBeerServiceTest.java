@@ -0,0 +1,223 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.mappers.BeerMapper;
+import br.com.beerstock.beerstockapi.api.repository.BeerShardTotals;
+import br.com.beerstock.beerstockapi.api.repository.ReactiveBeerRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.aggregates.StockAggregates;
+import br.com.beerstock.beerstockapi.domain.cache.BeerCache;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+import br.com.beerstock.beerstockapi.domain.idempotency.ReactiveIdempotencyStore;
+import br.com.beerstock.beerstockapi.domain.versioning.CatalogVersion;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveBeerServiceTest {
+
+    @Mock
+    private ReactiveBeerRepository beerRepository;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private BeerCache beerCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private StockAggregates stockAggregates;
+
+    @Mock
+    private StockShardService stockShardService;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    private final BeerMapper beerMapper = BeerMapper.INSTANCE;
+
+    private ReactiveBeerService beerService;
+
+    @BeforeEach
+    void setUp() {
+        this.beerService = new ReactiveBeerService(
+            this.beerRepository, this.transactionalOperator, this.beerCache, this.eventPublisher,
+            this.catalogVersion, this.stockAggregates, this.stockShardService,
+            new ReactiveIdempotencyStore(this.databaseClient, this.transactionalOperator,
+                new ObjectMapper(), Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("When decrement is applied then the changed beer is returned and published")
+    void whenDecrementIsAppliedThenTheChangedBeerIsReturnedAndPublished() {
+        // given
+        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().quantity(5).build().toBeerDto();
+        Beer expectedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        passThroughTransaction();
+        when(this.beerRepository.decrementQuantity(expectedBeerDTO.getId(), 5))
+            .thenReturn(Mono.just(1));
+        when(this.beerRepository.findById(expectedBeerDTO.getId()))
+            .thenReturn(Mono.just(expectedBeer));
+        when(this.beerRepository.insertMovement(eq(expectedBeerDTO.getId()),
+            eq(BeerChangeType.STOCK_CHANGED.name()), eq(-5), any(Instant.class)))
+            .thenReturn(Mono.just(1));
+
+        // when
+        StepVerifier.create(this.beerService.decrement(expectedBeerDTO.getId(), 5))
+            .expectNext(expectedBeerDTO)
+            .verifyComplete();
+
+        // then
+        ArgumentCaptor<BeerChangedEvent> eventCaptor = ArgumentCaptor.forClass(BeerChangedEvent.class);
+        verify(this.eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getType(), is(equalTo(BeerChangeType.STOCK_CHANGED)));
+        assertThat(eventCaptor.getValue().getQuantityDelta(), is(equalTo(-5)));
+        assertThat(eventCaptor.getValue().isRecorded(), is(true));
+    }
+
+    @Test
+    @DisplayName("When the movement cannot be recorded then the change fails and nothing is published")
+    void whenTheMovementCannotBeRecordedThenTheChangeFailsAndNothingIsPublished() {
+        // given
+        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().quantity(5).build().toBeerDto();
+        Beer expectedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        passThroughTransaction();
+        when(this.beerRepository.decrementQuantity(expectedBeerDTO.getId(), 5))
+            .thenReturn(Mono.just(1));
+        when(this.beerRepository.findById(expectedBeerDTO.getId()))
+            .thenReturn(Mono.just(expectedBeer));
+        when(this.beerRepository.insertMovement(eq(expectedBeerDTO.getId()),
+            eq(BeerChangeType.STOCK_CHANGED.name()), eq(-5), any(Instant.class)))
+            .thenReturn(Mono.error(new IllegalStateException("ledger unavailable")));
+
+        // then
+        StepVerifier.create(this.beerService.decrement(expectedBeerDTO.getId(), 5))
+            .expectError(IllegalStateException.class)
+            .verify();
+        verify(this.eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("When a listener fails after the commit then the committed change is still returned")
+    void whenAListenerFailsAfterTheCommitThenTheCommittedChangeIsStillReturned() {
+        // given
+        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().quantity(5).build().toBeerDto();
+        Beer expectedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        passThroughTransaction();
+        when(this.beerRepository.decrementQuantity(expectedBeerDTO.getId(), 5))
+            .thenReturn(Mono.just(1));
+        when(this.beerRepository.findById(expectedBeerDTO.getId()))
+            .thenReturn(Mono.just(expectedBeer));
+        when(this.beerRepository.insertMovement(eq(expectedBeerDTO.getId()),
+            eq(BeerChangeType.STOCK_CHANGED.name()), eq(-5), any(Instant.class)))
+            .thenReturn(Mono.just(1));
+        doThrow(new IllegalStateException("stream unavailable"))
+            .when(this.eventPublisher).publishEvent(any(BeerChangedEvent.class));
+
+        // then
+        StepVerifier.create(this.beerService.decrement(expectedBeerDTO.getId(), 5))
+            .expectNext(expectedBeerDTO)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("When increment exceeds max then an exception is signalled and nothing is published")
+    void whenIncrementExceedsMaxThenAnExceptionIsSignalledAndNothingIsPublished() {
+        // given
+        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        Beer expectedBeer = this.beerMapper.toBeer(expectedBeerDTO);
+        passThroughTransaction();
+        when(this.beerRepository.incrementQuantity(expectedBeerDTO.getId(), 80))
+            .thenReturn(Mono.just(0));
+        when(this.beerRepository.findById(expectedBeerDTO.getId()))
+            .thenReturn(Mono.just(expectedBeer));
+
+        // then
+        StepVerifier.create(this.beerService.increment(expectedBeerDTO.getId(), 80))
+            .expectError(BeerStockExceededException.class)
+            .verify();
+        verify(this.eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("When beer is cached then it is found without querying the repository")
+    void whenBeerIsCachedThenItIsFoundWithoutQueryingTheRepository() {
+        // given
+        BeerDTO expectedBeerDTO = BeerDTOBuilder.builder().build().toBeerDto();
+        when(this.beerCache.findByName(expectedBeerDTO.getName()))
+            .thenReturn(Optional.of(expectedBeerDTO));
+
+        // then
+        StepVerifier.create(this.beerService.findByName(expectedBeerDTO.getName()))
+            .expectNext(expectedBeerDTO)
+            .verifyComplete();
+        verify(this.beerRepository, never()).findByName(anyString());
+    }
+
+    @Test
+    @DisplayName("When a sharded beer is found then its quantity is the sum of its shards")
+    void whenAShardedBeerIsFoundThenItsQuantityIsTheSumOfItsShards() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().quantity(0).build().toBeerDto();
+        Beer shardedBeer = this.beerMapper.toBeer(beerDTO);
+        shardedBeer.setShards(2);
+        shardedBeer.setVersion(4);
+        BeerShardTotals totals = mock(BeerShardTotals.class);
+        when(totals.getQuantity()).thenReturn(7L);
+        when(totals.getVersion()).thenReturn(3L);
+        when(this.beerCache.findByName(beerDTO.getName())).thenReturn(Optional.empty());
+        when(this.beerRepository.findByName(beerDTO.getName())).thenReturn(Mono.just(shardedBeer));
+        when(this.beerRepository.findShardTotals(beerDTO.getId())).thenReturn(Mono.just(totals));
+
+        // then
+        StepVerifier.create(this.beerService.findByName(beerDTO.getName()))
+            .assertNext(foundBeerDTO -> {
+                assertThat(foundBeerDTO.getQuantity(), is(equalTo(7)));
+                assertThat(foundBeerDTO.getVersion(), is(equalTo(7L)));
+            })
+            .verifyComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void passThroughTransaction() {
+        when(this.transactionalOperator.transactional(any(Mono.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+}
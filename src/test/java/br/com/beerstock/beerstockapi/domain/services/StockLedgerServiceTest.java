@@ -0,0 +1,100 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockLedgerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockMovementDTO;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+
+@SpringBootTest
+public class StockLedgerServiceTest {
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private BeerService beerService;
+
+    private BeerDTO beerDTO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BeerDTO newBeerDTO = BeerDTOBuilder.builder()
+            .id(null)
+            .name("Ledger " + UUID.randomUUID())
+            .max(50)
+            .quantity(10)
+            .build()
+            .toBeerDto();
+        this.beerDTO = this.beerService.createBeer(newBeerDTO);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.beerService.deleteById(this.beerDTO.getId());
+    }
+
+    @Test
+    @DisplayName("When stock changes then every movement is appended to the ledger")
+    void whenStockChangesThenEveryMovementIsAppendedToTheLedger() throws Exception {
+        // when
+        this.beerService.increment(this.beerDTO.getId(), 5);
+        this.beerService.decrement(this.beerDTO.getId(), 3);
+
+        // then
+        StockLedgerDTO ledgerDTO = this.stockLedgerService
+            .findLedger(this.beerDTO.getId(), StockLedgerService.DEFAULT_MOVEMENTS_SIZE);
+        assertThat(ledgerDTO.getQuantity(), is(equalTo(12L)));
+        assertThat(ledgerDTO.getMovements().stream()
+            .map(StockMovementDTO::getDelta)
+            .collect(Collectors.toList()), contains(-3, 5, 10));
+    }
+
+    @Test
+    @DisplayName("When movements are compacted then the derived quantity is kept in the snapshot")
+    void whenMovementsAreCompactedThenTheDerivedQuantityIsKeptInTheSnapshot() throws Exception {
+        // given
+        this.beerService.increment(this.beerDTO.getId(), 5);
+
+        // when
+        this.stockLedgerService.compact(Instant.now().plusSeconds(1));
+        this.beerService.decrement(this.beerDTO.getId(), 2);
+
+        // then
+        StockLedgerDTO ledgerDTO = this.stockLedgerService
+            .findLedger(this.beerDTO.getId(), StockLedgerService.DEFAULT_MOVEMENTS_SIZE);
+        assertThat(ledgerDTO.getSnapshotQuantity(), is(equalTo(15L)));
+        assertThat(ledgerDTO.getQuantity(), is(equalTo(13L)));
+        assertThat(ledgerDTO.getMovements().size(), is(equalTo(1)));
+    }
+
+    @Test
+    @DisplayName("When nothing is older than the cutoff then compaction keeps every movement")
+    void whenNothingIsOlderThanTheCutoffThenCompactionKeepsEveryMovement() {
+        // when
+        this.stockLedgerService.compact(Instant.now().minusSeconds(3600));
+
+        // then
+        StockLedgerDTO ledgerDTO = this.stockLedgerService
+            .findLedger(this.beerDTO.getId(), StockLedgerService.DEFAULT_MOVEMENTS_SIZE);
+        assertThat(ledgerDTO.getQuantity(), is(equalTo(10L)));
+        assertThat(ledgerDTO.getMovements().isEmpty(), is(false));
+        assertThat(ledgerDTO.getSnapshotTakenAt(), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,165 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockReservationDTO;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.exception.StockReservationNotFoundException;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.api.repository.StockReservationRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.reservations.StockReservationExpiryQueue;
+
+@SpringBootTest
+public class StockReservationServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private BeerService beerService;
+
+    @Autowired
+    private BeerRepository beerRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private StockReservationExpiryQueue expiryQueue;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BeerDTO beerDTO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BeerDTO newBeerDTO = BeerDTOBuilder.builder()
+            .id(null)
+            .name("Reserved " + UUID.randomUUID())
+            .max(50)
+            .quantity(10)
+            .build()
+            .toBeerDto();
+        this.beerDTO = this.beerService.createBeer(newBeerDTO);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.beerService.deleteById(this.beerDTO.getId());
+    }
+
+    @Test
+    @DisplayName("When stock is reserved then decrement cannot take the held quantity")
+    void whenStockIsReservedThenDecrementCannotTakeTheHeldQuantity() throws Exception {
+        // given
+        this.stockReservationService.reserve(this.beerDTO.getId(), 8, TTL);
+
+        // then
+        assertThrows(StockLessThenZeroException.class,
+            () -> this.beerService.decrement(this.beerDTO.getId(), 3));
+        assertThrows(StockLessThenZeroException.class,
+            () -> this.stockReservationService.reserve(this.beerDTO.getId(), 3, TTL));
+        assertThat(this.beerService.decrement(this.beerDTO.getId(), 2).getQuantity(), is(equalTo(8)));
+    }
+
+    @Test
+    @DisplayName("When a reservation is committed then the held quantity leaves the stock")
+    void whenAReservationIsCommittedThenTheHeldQuantityLeavesTheStock() throws Exception {
+        // given
+        StockReservationDTO reservationDTO = this.stockReservationService
+            .reserve(this.beerDTO.getId(), 4, TTL);
+
+        // when
+        BeerDTO committedBeerDTO = this.stockReservationService.commit(reservationDTO.getId());
+
+        // then
+        assertThat(committedBeerDTO.getQuantity(), is(equalTo(6)));
+        assertThat(currentBeer().getReserved(), is(equalTo(0)));
+        assertThrows(StockReservationNotFoundException.class,
+            () -> this.stockReservationService.commit(reservationDTO.getId()));
+    }
+
+    @Test
+    @DisplayName("When a reservation is released then the held quantity is available again")
+    void whenAReservationIsReleasedThenTheHeldQuantityIsAvailableAgain() throws Exception {
+        // given
+        StockReservationDTO reservationDTO = this.stockReservationService
+            .reserve(this.beerDTO.getId(), 10, TTL);
+
+        // when
+        this.stockReservationService.release(reservationDTO.getId());
+
+        // then
+        assertThat(currentBeer().getQuantity(), is(equalTo(10)));
+        assertThat(currentBeer().getReserved(), is(equalTo(0)));
+        assertThrows(StockReservationNotFoundException.class,
+            () -> this.stockReservationService.commit(reservationDTO.getId()));
+    }
+
+    @Test
+    @DisplayName("When the reserving transaction rolls back then no expiry is scheduled")
+    void whenTheReservingTransactionRollsBackThenNoExpiryIsScheduled() {
+        // given
+        int scheduledExpiries = this.expiryQueue.size();
+
+        // when
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            try {
+                this.stockReservationService.reserve(this.beerDTO.getId(), 5, TTL);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(this.expiryQueue.size(), is(equalTo(scheduledExpiries)));
+        assertThat(currentBeer().getReserved(), is(equalTo(0)));
+    }
+
+    @Test
+    @DisplayName("When a reservation outlives its TTL then the sweeper releases it")
+    void whenAReservationOutlivesItsTTLThenTheSweeperReleasesIt() throws Exception {
+        // given
+        StockReservationDTO reservationDTO = this.stockReservationService
+            .reserve(this.beerDTO.getId(), 5, Duration.ofMillis(100));
+
+        // when
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (this.stockReservationRepository.existsById(reservationDTO.getId())
+            && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        // then
+        assertThat(this.stockReservationRepository.existsById(reservationDTO.getId()), is(false));
+        assertThat(currentBeer().getReserved(), is(equalTo(0)));
+        assertThrows(StockReservationNotFoundException.class,
+            () -> this.stockReservationService.commit(reservationDTO.getId()));
+    }
+
+    private Beer currentBeer() {
+        return this.beerRepository.findById(this.beerDTO.getId()).orElseThrow();
+    }
+
+}
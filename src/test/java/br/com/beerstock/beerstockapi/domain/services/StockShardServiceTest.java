@@ -0,0 +1,232 @@
+package br.com.beerstock.beerstockapi.domain.services;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockAdjustmentDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockShardsDTO;
+import br.com.beerstock.beerstockapi.api.exception.BeerStockExceededException;
+import br.com.beerstock.beerstockapi.api.exception.StockLessThenZeroException;
+import br.com.beerstock.beerstockapi.api.exception.StockShardingConflictException;
+import br.com.beerstock.beerstockapi.api.repository.BeerRepository;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.entity.Beer;
+import br.com.beerstock.beerstockapi.domain.enums.StockAdjustmentMode;
+
+@SpringBootTest
+public class StockShardServiceTest {
+
+    private static final int SHARDS = 4;
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private BeerService beerService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private BeerStockAdjustmentService beerStockAdjustmentService;
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private BeerRepository beerRepository;
+
+    private BeerDTO beerDTO;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BeerDTO newBeerDTO = BeerDTOBuilder.builder()
+            .id(null)
+            .name("Sharded " + UUID.randomUUID())
+            .max(100)
+            .quantity(10)
+            .build()
+            .toBeerDto();
+        this.beerDTO = this.beerService.createBeer(newBeerDTO);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.beerService.deleteById(this.beerDTO.getId());
+    }
+
+    @Test
+    @DisplayName("When sharding is enabled then the stock is split evenly across the shards")
+    void whenShardingIsEnabledThenTheStockIsSplitEvenlyAcrossTheShards() throws Exception {
+        // when
+        StockShardsDTO shardsDTO = this.stockShardService.enable(this.beerDTO.getId(), SHARDS);
+
+        // then
+        assertThat(shardsDTO.getQuantity(), is(equalTo(10)));
+        assertThat(shardsDTO.getShards(), contains(3, 3, 2, 2));
+        assertThat(currentBeer().getShards(), is(equalTo(SHARDS)));
+    }
+
+    @Test
+    @DisplayName("When a sharded beer is decremented beyond one shard then the other shards cover it")
+    void whenAShardedBeerIsDecrementedBeyondOneShardThenTheOtherShardsCoverIt() throws Exception {
+        // given
+        this.stockShardService.enable(this.beerDTO.getId(), SHARDS);
+
+        // when
+        BeerDTO decrementedBeerDTO = this.beerService.decrement(this.beerDTO.getId(), 7);
+
+        // then
+        assertThat(decrementedBeerDTO.getQuantity(), is(equalTo(3)));
+        assertThat(this.stockShardService.findShards(this.beerDTO.getId()).getQuantity(), is(equalTo(3)));
+        assertThrows(StockLessThenZeroException.class,
+            () -> this.beerService.decrement(this.beerDTO.getId(), 4));
+    }
+
+    @Test
+    @DisplayName("When a sharded beer is incremented beyond max then the increment is rejected")
+    void whenAShardedBeerIsIncrementedBeyondMaxThenTheIncrementIsRejected() throws Exception {
+        // given
+        this.stockShardService.enable(this.beerDTO.getId(), SHARDS);
+
+        // when
+        BeerDTO incrementedBeerDTO = this.beerService.increment(this.beerDTO.getId(), 90);
+
+        // then
+        assertThat(incrementedBeerDTO.getQuantity(), is(equalTo(100)));
+        assertThrows(BeerStockExceededException.class,
+            () -> this.beerService.increment(this.beerDTO.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("When sharding is disabled then the shards are folded back into the beer")
+    void whenShardingIsDisabledThenTheShardsAreFoldedBackIntoTheBeer() throws Exception {
+        // given
+        this.stockShardService.enable(this.beerDTO.getId(), SHARDS);
+        this.beerService.decrement(this.beerDTO.getId(), 4);
+
+        // when
+        StockShardsDTO shardsDTO = this.stockShardService.disable(this.beerDTO.getId());
+
+        // then
+        assertThat(shardsDTO.getShards(), is(empty()));
+        assertThat(currentBeer().getShards(), is(equalTo(0)));
+        assertThat(currentBeer().getQuantity(), is(equalTo(6)));
+        assertThat(this.beerService.decrement(this.beerDTO.getId(), 6).getQuantity(), is(equalTo(0)));
+    }
+
+    @Test
+    @DisplayName("When shards are synchronized then the beer row reflects the shard total")
+    void whenShardsAreSynchronizedThenTheBeerRowReflectsTheShardTotal() throws Exception {
+        // given
+        this.stockShardService.enable(this.beerDTO.getId(), SHARDS);
+        this.beerService.decrement(this.beerDTO.getId(), 5);
+
+        // when
+        this.stockShardService.synchronize();
+
+        // then
+        assertThat(currentBeer().getQuantity(), is(equalTo(5)));
+        assertThat(currentBeer().getFillRatio(), is(equalTo(0.05)));
+    }
+
+    @Test
+    @DisplayName("When a sharded beer changes then its version tag never repeats")
+    void whenAShardedBeerChangesThenItsVersionTagNeverRepeats() throws Exception {
+        // given
+        Set<String> tags = new HashSet<>();
+        tags.add(versionTag());
+        this.stockShardService.enable(this.beerDTO.getId(), SHARDS);
+        tags.add(versionTag());
+
+        // when
+        this.beerService.decrement(this.beerDTO.getId(), 1);
+        tags.add(versionTag());
+        this.beerService.increment(this.beerDTO.getId(), 1);
+        tags.add(versionTag());
+        this.beerService.decrement(this.beerDTO.getId(), 9);
+        tags.add(versionTag());
+        this.stockShardService.disable(this.beerDTO.getId());
+        tags.add(versionTag());
+        this.beerService.increment(this.beerDTO.getId(), 1);
+        tags.add(versionTag());
+
+        // then
+        assertThat(tags, hasSize(7));
+    }
+
+    private String versionTag() throws Exception {
+        return BeerService.versionTagOf(this.beerService.findByName(this.beerDTO.getName()));
+    }
+
+    @Test
+    @DisplayName("When a sharded beer is deleted then the ledger drops the shard total")
+    void whenAShardedBeerIsDeletedThenTheLedgerDropsTheShardTotal() throws Exception {
+        // given
+        BeerDTO shardedBeerDTO = this.beerService.createBeer(BeerDTOBuilder.builder()
+            .id(null)
+            .name("Deleted " + UUID.randomUUID())
+            .max(100)
+            .quantity(10)
+            .build()
+            .toBeerDto());
+        this.stockShardService.enable(shardedBeerDTO.getId(), SHARDS);
+        this.beerService.decrement(shardedBeerDTO.getId(), 5);
+
+        // when
+        this.beerService.deleteById(shardedBeerDTO.getId());
+
+        // then
+        assertThat(this.stockLedgerService.findLedger(shardedBeerDTO.getId(),
+            StockLedgerService.DEFAULT_MOVEMENTS_SIZE).getQuantity(), is(equalTo(0L)));
+    }
+
+    @Test
+    @DisplayName("When a sharded beer is adjusted in bulk then the shards take the delta")
+    void whenAShardedBeerIsAdjustedInBulkThenTheShardsTakeTheDelta() throws Exception {
+        // given
+        this.stockShardService.enable(this.beerDTO.getId(), SHARDS);
+
+        // when
+        this.beerStockAdjustmentService.adjust(
+            List.of(new StockAdjustmentDTO(this.beerDTO.getId(), -8)), StockAdjustmentMode.ATOMIC);
+
+        // then
+        assertThat(this.stockShardService.findShards(this.beerDTO.getId()).getQuantity(), is(equalTo(2)));
+        assertThat(currentBeer().getQuantity(), is(equalTo(2)));
+    }
+
+    @Test
+    @DisplayName("When a beer has sharded stock then reservations are rejected")
+    void whenABeerHasShardedStockThenReservationsAreRejected() throws Exception {
+        // given
+        this.stockShardService.enable(this.beerDTO.getId(), SHARDS);
+
+        // then
+        assertThrows(StockShardingConflictException.class,
+            () -> this.stockReservationService.reserve(this.beerDTO.getId(), 1, Duration.ofMinutes(1)));
+    }
+
+    private Beer currentBeer() {
+        return this.beerRepository.findById(this.beerDTO.getId()).orElseThrow();
+    }
+
+}
@@ -0,0 +1,69 @@
+package br.com.beerstock.beerstockapi.domain.shards;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import br.com.beerstock.beerstockapi.domain.cache.BeerCache;
+import br.com.beerstock.beerstockapi.domain.services.StockShardService;
+import br.com.beerstock.beerstockapi.domain.versioning.CatalogVersion;
+
+@ExtendWith(MockitoExtension.class)
+public class StockShardSynchronizerTest {
+
+    @Mock
+    private StockShardService stockShardService;
+
+    @Mock
+    private BeerCache beerCache;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    private StockShardSynchronizer stockShardSynchronizer;
+
+    @BeforeEach
+    void setUp() {
+        this.stockShardSynchronizer = new StockShardSynchronizer(
+            this.stockShardService, this.beerCache, this.catalogVersion);
+    }
+
+    @Test
+    @DisplayName("When synchronization changes beers then their cache entries are evicted and the catalog version advances")
+    void whenSynchronizationChangesBeersThenTheirCacheEntriesAreEvictedAndTheCatalogVersionAdvances() {
+        // given
+        when(this.stockShardService.synchronize()).thenReturn(List.of("Brahma", "Skol"));
+
+        // when
+        this.stockShardSynchronizer.synchronize();
+
+        // then
+        verify(this.beerCache).evict("Brahma");
+        verify(this.beerCache).evict("Skol");
+        verify(this.catalogVersion).advance();
+    }
+
+    @Test
+    @DisplayName("When synchronization changes nothing then the catalog version is kept")
+    void whenSynchronizationChangesNothingThenTheCatalogVersionIsKept() {
+        // given
+        when(this.stockShardService.synchronize()).thenReturn(List.of());
+
+        // when
+        this.stockShardSynchronizer.synchronize();
+
+        // then
+        verify(this.beerCache, never()).evict(anyString());
+        verify(this.catalogVersion, never()).advance();
+    }
+
+}
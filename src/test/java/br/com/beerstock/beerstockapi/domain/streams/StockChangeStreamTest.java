@@ -0,0 +1,152 @@
+package br.com.beerstock.beerstockapi.domain.streams;
+
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.beerstock.beerstockapi.api.dtos.BeerDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeDTO;
+import br.com.beerstock.beerstockapi.api.dtos.StockChangeFilterDTO;
+import br.com.beerstock.beerstockapi.api.exception.StockStreamUnavailableException;
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.enums.BeerChangeType;
+import br.com.beerstock.beerstockapi.domain.enums.BeerType;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+public class StockChangeStreamTest {
+
+    private static final Duration COALESCE_WINDOW = Duration.ofMillis(250);
+
+    private StockChangeStream stockChangeStream;
+
+    @BeforeEach
+    void setUp() {
+        this.stockChangeStream = new StockChangeStream(COALESCE_WINDOW, Duration.ofSeconds(15), 1);
+    }
+
+    @Test
+    @DisplayName("When a beer changes several times within the window then only its latest state is sent")
+    void whenABeerChangesSeveralTimesWithinTheWindowThenOnlyItsLatestStateIsSent() {
+        // given
+        BeerDTO beerDTO = BeerDTOBuilder.builder().quantity(7).build().toBeerDto();
+
+        // then
+        StepVerifier.withVirtualTime(() -> subscribe(new StockChangeFilterDTO()))
+            .expectNextMatches(event -> "subscribed".equals(event.comment()))
+            .then(() -> {
+                this.stockChangeStream.publish(BeerChangedEvent.stockChanged(beerDTO, -1));
+                this.stockChangeStream.publish(BeerChangedEvent.stockChanged(beerDTO, -1));
+                this.stockChangeStream.publish(BeerChangedEvent.stockChanged(beerDTO, -1));
+            })
+            .thenAwait(COALESCE_WINDOW)
+            .expectNextMatches(event -> event.data().equals(
+                new StockChangeDTO(BeerChangeType.STOCK_CHANGED, -3, 3, beerDTO)))
+            .thenAwait(COALESCE_WINDOW.multipliedBy(4))
+            .expectNoEvent(Duration.ZERO)
+            .thenCancel()
+            .verify();
+        assertThat(this.stockChangeStream.subscribers(), equalTo(0));
+    }
+
+    @Test
+    @DisplayName("When a beer is created and deleted within the window then the lifecycle changes are kept")
+    void whenABeerIsCreatedAndDeletedWithinTheWindowThenTheLifecycleChangesAreKept() {
+        // given
+        BeerDTO createdDTO = BeerDTOBuilder.builder().quantity(10).build().toBeerDto();
+        BeerDTO changedDTO = BeerDTOBuilder.builder().quantity(8).build().toBeerDto();
+
+        // then
+        StepVerifier.withVirtualTime(() -> subscribe(new StockChangeFilterDTO()))
+            .expectNextMatches(event -> "subscribed".equals(event.comment()))
+            .then(() -> {
+                this.stockChangeStream.publish(BeerChangedEvent.created(createdDTO));
+                this.stockChangeStream.publish(BeerChangedEvent.stockChanged(changedDTO, -2));
+            })
+            .thenAwait(COALESCE_WINDOW)
+            .expectNextMatches(event -> event.data().equals(
+                new StockChangeDTO(BeerChangeType.CREATED, 8, 2, changedDTO)))
+            .then(() -> {
+                this.stockChangeStream.publish(BeerChangedEvent.stockChanged(createdDTO, 2));
+                this.stockChangeStream.publish(BeerChangedEvent.deleted(createdDTO));
+            })
+            .thenAwait(COALESCE_WINDOW)
+            .expectNextMatches(event -> event.data().equals(
+                new StockChangeDTO(BeerChangeType.DELETED, -8, 2, createdDTO)))
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    @DisplayName("When subscribed to a beer type then changes of other types are not sent")
+    void whenSubscribedToABeerTypeThenChangesOfOtherTypesAreNotSent() {
+        // given
+        BeerDTO lagerDTO = BeerDTOBuilder.builder().type(BeerType.LAGER).build().toBeerDto();
+        BeerDTO ipaDTO = BeerDTOBuilder.builder().type(BeerType.IPA).build().toBeerDto();
+        StockChangeFilterDTO filter = StockChangeFilterDTO.builder().type(Set.of(BeerType.IPA)).build();
+
+        // then
+        StepVerifier.withVirtualTime(() -> subscribe(filter))
+            .expectNextMatches(event -> "subscribed".equals(event.comment()))
+            .then(() -> {
+                this.stockChangeStream.publish(BeerChangedEvent.created(lagerDTO));
+                this.stockChangeStream.publish(BeerChangedEvent.created(ipaDTO));
+            })
+            .thenAwait(COALESCE_WINDOW)
+            .expectNextMatches(event -> event.data().getBeer().equals(ipaDTO)
+                && BeerChangeType.CREATED.name().equals(event.event()))
+            .thenAwait(COALESCE_WINDOW)
+            .expectNoEvent(Duration.ZERO)
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    @DisplayName("When the subscriber cap is reached then new subscriptions are refused until one ends")
+    void whenTheSubscriberCapIsReachedThenNewSubscriptionsAreRefusedUntilOneEnds() throws Exception {
+        // given
+        Disposable firstStream = this.stockChangeStream
+            .subscribe(new StockChangeFilterDTO())
+            .subscribe();
+
+        // then
+        assertThrows(StockStreamUnavailableException.class,
+            () -> this.stockChangeStream.subscribe(new StockChangeFilterDTO()));
+        firstStream.dispose();
+        assertThat(this.stockChangeStream.subscribers(), equalTo(0));
+        StepVerifier.create(subscribe(new StockChangeFilterDTO()).take(1)).expectNextCount(1).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("When a stream is never subscribed then it does not hold a subscriber slot")
+    void whenAStreamIsNeverSubscribedThenItDoesNotHoldASubscriberSlot() {
+        // given
+        Flux<ServerSentEvent<StockChangeDTO>> abandonedStream = subscribe(new StockChangeFilterDTO());
+        Flux<ServerSentEvent<StockChangeDTO>> secondStream = subscribe(new StockChangeFilterDTO());
+
+        // then
+        assertThat(this.stockChangeStream.subscribers(), equalTo(0));
+        Disposable subscribedStream = secondStream.subscribe();
+        StepVerifier.create(abandonedStream).expectError(StockStreamUnavailableException.class).verify();
+        subscribedStream.dispose();
+        assertThat(this.stockChangeStream.subscribers(), equalTo(0));
+    }
+
+    private Flux<ServerSentEvent<StockChangeDTO>> subscribe(StockChangeFilterDTO filter) {
+        try {
+            return this.stockChangeStream.subscribe(filter);
+        } catch (StockStreamUnavailableException e) {
+            return Flux.error(e);
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package br.com.beerstock.beerstockapi.domain.versioning;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import br.com.beerstock.beerstockapi.common.builder.BeerDTOBuilder;
+import br.com.beerstock.beerstockapi.domain.events.BeerChangedEvent;
+
+@SpringBootTest
+public class CatalogVersionTest {
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("When a beer changes then the catalog version advances")
+    void whenABeerChangesThenTheCatalogVersionAdvances() {
+        // given
+        String initialVersion = this.catalogVersion.current();
+
+        // when
+        this.catalogVersion.advance(BeerChangedEvent.created(BeerDTOBuilder.builder().build().toBeerDto()));
+
+        // then
+        assertThat(this.catalogVersion.current(), is(not(equalTo(initialVersion))));
+    }
+
+    @Test
+    @DisplayName("When only the shards of a beer change then the catalog version is kept")
+    void whenOnlyTheShardsOfABeerChangeThenTheCatalogVersionIsKept() {
+        // given
+        String initialVersion = this.catalogVersion.current();
+
+        // when
+        this.catalogVersion.advance(BeerChangedEvent.shardedStockChanged(
+            BeerDTOBuilder.builder().build().toBeerDto(), -1));
+
+        // then
+        assertThat(this.catalogVersion.current(), is(equalTo(initialVersion)));
+    }
+
+    @Test
+    @DisplayName("When another instance reads the catalog version then both instances agree")
+    void whenAnotherInstanceReadsTheCatalogVersionThenBothInstancesAgree() {
+        // given
+        CatalogVersion otherInstance = new CatalogVersion(this.jdbcTemplate);
+
+        // when
+        this.catalogVersion.advance();
+
+        // then
+        assertThat(otherInstance.current(), is(equalTo(this.catalogVersion.current())));
+    }
+
+}